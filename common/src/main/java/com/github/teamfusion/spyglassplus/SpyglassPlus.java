@@ -1,6 +1,7 @@
 package com.github.teamfusion.spyglassplus;
 
 import com.github.teamfusion.spyglassplus.client.SpyglassPlusClient;
+import com.github.teamfusion.spyglassplus.command.SpyglassPlusCommand;
 import com.github.teamfusion.spyglassplus.enchantment.SpyglassPlusEnchantments;
 import com.github.teamfusion.spyglassplus.enchantment.target.SpyglassPlusEnchantmentTargets;
 import com.github.teamfusion.spyglassplus.entity.SpyglassPlusEntityType;
@@ -8,7 +9,13 @@
 import com.github.teamfusion.spyglassplus.item.SpyglassPlusItems;
 import com.github.teamfusion.spyglassplus.network.SpyglassPlusNetworking;
 import com.github.teamfusion.spyglassplus.sound.SpyglassPlusSoundEvents;
+import com.github.teamfusion.spyglassplus.world.CommandDispatchQueue;
+import com.github.teamfusion.spyglassplus.world.ScopingSessionManager;
+import com.github.teamfusion.spyglassplus.world.SpyglassPlusGameRules;
 import com.google.common.reflect.Reflection;
+import dev.architectury.event.events.common.CommandRegistrationEvent;
+import dev.architectury.event.events.common.LifecycleEvent;
+import dev.architectury.event.events.common.TickEvent;
 import dev.architectury.registry.CreativeTabRegistry;
 import dev.architectury.utils.EnvExecutor;
 import net.fabricmc.api.EnvType;
@@ -30,7 +37,7 @@ public interface SpyglassPlus {
     static void commonInitialize() {
         LOGGER.info("Initializing {}", MOD_NAME);
 
-        Reflection.initialize(SpyglassPlusEnchantmentTargets.class);
+        Reflection.initialize(SpyglassPlusEnchantmentTargets.class, SpyglassPlusGameRules.class);
 
         SpyglassPlusItems.REGISTER.register();
         SpyglassPlusEntityType.REGISTER.register();
@@ -40,6 +47,11 @@ static void commonInitialize() {
         SpyglassPlusEntityType.postRegister();
 
         SpyglassPlusNetworking.registerReceivers();
+        TickEvent.SERVER_LEVEL_POST.register(ScopingSessionManager::tick);
+        TickEvent.SERVER_LEVEL_POST.register(CommandDispatchQueue::tick);
+        LifecycleEvent.SERVER_STOPPED.register(ScopingSessionManager::reset);
+        LifecycleEvent.SERVER_STOPPED.register(CommandDispatchQueue::reset);
+        CommandRegistrationEvent.EVENT.register((dispatcher, registry, environment) -> SpyglassPlusCommand.register(dispatcher));
 
         EnvExecutor.runInEnv(EnvType.CLIENT, () -> SpyglassPlusClient::commonClientInitialize);
 
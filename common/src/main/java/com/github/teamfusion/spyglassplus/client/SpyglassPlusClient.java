@@ -4,23 +4,23 @@
 import com.github.teamfusion.spyglassplus.client.config.SpyglassPlusConfig;
 import com.github.teamfusion.spyglassplus.client.entity.CommandTargetManager;
 import com.github.teamfusion.spyglassplus.client.entity.IndicateTargetManager;
+import com.github.teamfusion.spyglassplus.client.entity.ScopingTargetManager;
 import com.github.teamfusion.spyglassplus.client.keybinding.SpyglassPlusKeyBindings;
 import com.github.teamfusion.spyglassplus.client.model.entity.SpyglassPlusEntityModelLayers;
 import com.github.teamfusion.spyglassplus.client.network.SpyglassPlusClientNetworking;
 import com.github.teamfusion.spyglassplus.client.render.entity.SpyglassStandEntityRenderer;
-import com.github.teamfusion.spyglassplus.enchantment.SpyglassPlusEnchantments;
 import com.github.teamfusion.spyglassplus.entity.ScopingPlayer;
 import com.github.teamfusion.spyglassplus.entity.SpyglassPlusEntityType;
 import com.github.teamfusion.spyglassplus.item.ISpyglass;
 import com.github.teamfusion.spyglassplus.mixin.client.ModelPredicateProviderRegistryMixin;
 import com.github.teamfusion.spyglassplus.mixin.client.access.KeyBindingAccessor;
+import com.github.teamfusion.spyglassplus.network.packet.CommandTriggeredPacket;
 import com.google.common.reflect.Reflection;
 import dev.architectury.event.events.client.ClientTickEvent;
 import dev.architectury.event.events.client.ClientTooltipEvent;
 import dev.architectury.networking.NetworkManager;
 import dev.architectury.platform.Platform;
 import dev.architectury.registry.client.level.entity.EntityRendererRegistry;
-import io.netty.buffer.Unpooled;
 import me.shedaniel.autoconfig.AutoConfig;
 import me.shedaniel.autoconfig.ConfigHolder;
 import me.shedaniel.autoconfig.serializer.JanksonConfigSerializer;
@@ -30,9 +30,6 @@
 import net.minecraft.client.option.KeyBinding;
 import net.minecraft.client.util.InputUtil;
 import net.minecraft.client.world.ClientWorld;
-import net.minecraft.enchantment.EnchantmentHelper;
-import net.minecraft.item.ItemStack;
-import net.minecraft.network.PacketByteBuf;
 
 import static com.github.teamfusion.spyglassplus.network.SpyglassPlusNetworking.COMMAND_TRIGGERED_PACKET_ID;
 
@@ -42,6 +39,7 @@ public interface SpyglassPlusClient extends SpyglassPlus {
 
     IndicateTargetManager INDICATE_TARGET_MANAGER = new IndicateTargetManager();
     CommandTargetManager COMMAND_TARGET_MANAGER = new CommandTargetManager();
+    ScopingTargetManager SCOPING_TARGET_MANAGER = new ScopingTargetManager();
 
     /**
      * @see ModelPredicateProviderRegistryMixin
@@ -72,23 +70,33 @@ static void initializeConfig() {
     static void checkForTriggerCommandKeyboard(ClientWorld world) {
         MinecraftClient client = MinecraftClient.getInstance();
         if (client.player instanceof ScopingPlayer scopingPlayer && scopingPlayer.isScoping()) {
-            ItemStack stack = scopingPlayer.getScopingStack();
-            if (EnchantmentHelper.getLevel(SpyglassPlusEnchantments.COMMAND.get(), stack) > 0) {
+            if (scopingPlayer.getScopingProfile().getCommandLevel() > 0) {
                 long handle = client.getWindow().getHandle();
                 sendCommandTriggerToServer(handle);
+                return;
             }
         }
+
+        // keys held since before scoping should not trigger once scoping starts
+        CommandTargetManager manager = COMMAND_TARGET_MANAGER;
+        manager.updateTargetKey(true);
+        manager.updateUntargetKey(true);
     }
 
+    /**
+     * Sends a Command trigger when a Command key is pressed, once per press rather than every tick it is held.
+     */
     static void sendCommandTriggerToServer(long handle) {
-        int targetCode = getKeyCode(SpyglassPlusKeyBindings.COMMAND_TARGET);
-        if (isKeyPressed(handle, targetCode)) {
-            NetworkManager.sendToServer(COMMAND_TRIGGERED_PACKET_ID, createCommandTriggeredPacketBuf(true));
-        } else {
-            int untargetCode = getKeyCode(SpyglassPlusKeyBindings.COMMAND_UNTARGET);
-            if (isKeyPressed(handle, untargetCode)) {
-                NetworkManager.sendToServer(COMMAND_TRIGGERED_PACKET_ID, createCommandTriggeredPacketBuf(false));
-            }
+        CommandTargetManager manager = COMMAND_TARGET_MANAGER;
+        boolean targetDown = isKeyPressed(handle, getKeyCode(SpyglassPlusKeyBindings.COMMAND_TARGET));
+        boolean untargetDown = !targetDown && isKeyPressed(handle, getKeyCode(SpyglassPlusKeyBindings.COMMAND_UNTARGET));
+
+        if (manager.updateTargetKey(targetDown)) {
+            NetworkManager.sendToServer(COMMAND_TRIGGERED_PACKET_ID, new CommandTriggeredPacket(true, manager.nextCommandSequence()).toBuf());
+        }
+
+        if (manager.updateUntargetKey(untargetDown)) {
+            NetworkManager.sendToServer(COMMAND_TRIGGERED_PACKET_ID, new CommandTriggeredPacket(false, manager.nextCommandSequence()).toBuf());
         }
     }
 
@@ -100,10 +108,4 @@ static int getKeyCode(KeyBinding keyBinding) {
     static boolean isKeyPressed(long handle, int code) {
         return code != -1 && InputUtil.isKeyPressed(handle, code);
     }
-
-    static PacketByteBuf createCommandTriggeredPacketBuf(boolean target) {
-        PacketByteBuf buf = new PacketByteBuf(Unpooled.buffer());
-        buf.writeBoolean(target);
-        return buf;
-    }
 }
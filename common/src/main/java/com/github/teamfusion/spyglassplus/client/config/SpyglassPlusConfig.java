@@ -6,6 +6,7 @@
 import me.shedaniel.autoconfig.ConfigData;
 import me.shedaniel.autoconfig.annotation.Config;
 import me.shedaniel.autoconfig.annotation.Config.Gui.Background;
+import me.shedaniel.autoconfig.annotation.ConfigEntry.BoundedDiscrete;
 import me.shedaniel.autoconfig.annotation.ConfigEntry.Gui.CollapsibleObject;
 import me.shedaniel.autoconfig.annotation.ConfigEntry.Gui.Tooltip;
 import me.shedaniel.cloth.clothconfig.shadowed.blue.endless.jankson.Comment;
@@ -23,6 +24,9 @@ public class SpyglassPlusConfig implements ConfigData {
     @CollapsibleObject(startExpanded = true)
     public DisplayConfig display = new DisplayConfig();
 
+    @CollapsibleObject
+    public TargetingConfig targeting = new TargetingConfig();
+
     public static class DisplayConfig {
         @CollapsibleObject(startExpanded = true)
         public DiscoveryHudConfig discoveryHud = new DiscoveryHudConfig();
@@ -42,6 +46,17 @@ public static class DiscoveryHudConfig {
         }
     }
 
+    public static class TargetingConfig {
+        @Comment("How many times per second the entity at the crosshair is looked up while scoping, rather than every frame.")
+        @Tooltip(count = 2)
+        @BoundedDiscrete(min = 1, max = 60)
+        public int raycastsPerSecond = 20;
+
+        @Comment("How far, in degrees, the camera can turn before the entity at the crosshair is looked up early.")
+        @Tooltip(count = 2)
+        public float rotationThreshold = 0.5F;
+    }
+
     /**
      * @return the instance of this config class stored in {@link SpyglassPlusClient#CONFIG_HOLDER}
      */
@@ -9,20 +9,62 @@
 
 /**
  * Manages the actively targeted entity for {@link SpyglassPlusEnchantments#COMMAND}.
+ * <p>The entity is predicted from the client's own raycast, so it shows without waiting for the server.
+ * A prediction is only shown until the server next sends its entity, which it does when its entity changes
+ * or when it expects the prediction to differ, and the server's entity is shown from then on.</p>
+ *
+ * @see ScopingTargetManager
  */
 @Environment(EnvType.CLIENT)
 public class CommandTargetManager {
     private final MinecraftClient client;
 
-    private Entity entity;
+    private Entity predictedEntity;
+    private Entity serverEntity;
+
+    /**
+     * Whether the prediction changed since the server's entity was last received.
+     */
+    private boolean predicting;
+
     private Entity lastTargetedEntity;
 
+    private boolean targetKeyDown, untargetKeyDown;
+
+    /**
+     * The sequence number of the last Command trigger sent, starting above the server's initial value of 0.
+     */
+    private int commandSequence;
+
     public CommandTargetManager() {
         this.client = MinecraftClient.getInstance();
     }
 
+    /**
+     * Receives the server's entity, which confirms or corrects the prediction.
+     */
     public void setEntity(int id) {
-        this.entity = id == -1 ? null : this.client.world.getEntityById(id);
+        this.serverEntity = id == -1 ? null : this.client.world.getEntityById(id);
+        this.predicting = false;
+    }
+
+    /**
+     * Predicts the entity from the client's raycast, shown until the server next sends its entity.
+     */
+    public void predict(@Nullable Entity entity) {
+        if (entity != this.predictedEntity) {
+            this.predictedEntity = entity;
+            this.predicting = entity != this.serverEntity;
+        }
+    }
+
+    /**
+     * Forgets both entities once the client stops scoping, as the server resends its entity on the next scope.
+     */
+    public void reset() {
+        this.predictedEntity = null;
+        this.serverEntity = null;
+        this.predicting = false;
     }
 
     public Entity setLastTargetedEntity(int id) {
@@ -32,11 +74,36 @@ public Entity setLastTargetedEntity(int id) {
 
     @Nullable
     public Entity getEntity() {
-        return this.entity;
+        return this.predicting ? this.predictedEntity : this.serverEntity;
     }
 
     @Nullable
     public Entity getLastTargetedEntity() {
         return lastTargetedEntity;
     }
+
+    /**
+     * Updates the held state of the Command target key.
+     *
+     * @return whether the target key was just pressed
+     */
+    public boolean updateTargetKey(boolean down) {
+        boolean pressed = down && !this.targetKeyDown;
+        this.targetKeyDown = down;
+        return pressed;
+    }
+
+    /**
+     * @return whether the untarget key was just pressed
+     * @see #updateTargetKey(boolean)
+     */
+    public boolean updateUntargetKey(boolean down) {
+        boolean pressed = down && !this.untargetKeyDown;
+        this.untargetKeyDown = down;
+        return pressed;
+    }
+
+    public int nextCommandSequence() {
+        return ++this.commandSequence;
+    }
 }
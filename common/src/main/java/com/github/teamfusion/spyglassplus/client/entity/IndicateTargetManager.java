@@ -2,9 +2,8 @@
 
 import com.github.teamfusion.spyglassplus.client.network.SpyglassPlusClientNetworking;
 import com.github.teamfusion.spyglassplus.enchantment.SpyglassPlusEnchantments;
-import dev.architectury.networking.NetworkManager;
-import it.unimi.dsi.fastutil.ints.Int2ObjectArrayMap;
-import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.minecraft.entity.Entity;
@@ -12,45 +11,38 @@
 
 /**
  * Manages what entities are being watched by any player for {@link SpyglassPlusEnchantments#INDICATE}.
+ * <p>Watchers are counted by the server, which only sends whether each entity is indicated.
+ * Entities are forgotten as they are unloaded, so this only holds loaded entities.</p>
  */
 @Environment(EnvType.CLIENT)
 public class IndicateTargetManager {
-    private final Int2ObjectMap<Integer> watchers;
+    private final IntSet indicated;
 
     public IndicateTargetManager() {
-        this.watchers = new Int2ObjectArrayMap<>();
+        this.indicated = new IntOpenHashSet();
     }
 
     public void reset() {
-        this.watchers.clear();
+        this.indicated.clear();
     }
 
     /**
+     * Checked for every entity every frame, so must not allocate.
+     *
      * @return whether an entity has any {@link SpyglassPlusEnchantments#INDICATE} watchers.
      */
     public boolean isIndicated(Entity entity) {
-        return this.watchers.getOrDefault(entity.getId(), (Integer) 0) > 0;
-    }
-
-    /**
-     * Increments watchers.
-     *
-     * @see SpyglassPlusClientNetworking#onIndicateUpdate(PacketByteBuf, NetworkManager.PacketContext)
-     */
-    public void increment(int id) {
-        if (id != -1) {
-            this.watchers.compute(id, (key, value) -> (value == null ? 0 : value) + 1);
-        }
+        return this.indicated.contains(entity.getId());
     }
 
     /**
-     * Decrements watchers.
-     *
-     * @see SpyglassPlusClientNetworking#onIndicateUpdate(PacketByteBuf, NetworkManager.PacketContext)
+     * @see SpyglassPlusClientNetworking#onIndicateUpdate(PacketByteBuf)
      */
-    public void decrement(int id) {
-        if (id != -1) {
-            this.watchers.compute(id, (key, value) -> Math.max(0, (value == null ? 0 : value) - 1));
+    public void setIndicated(int id, boolean indicated) {
+        if (indicated) {
+            this.indicated.add(id);
+        } else {
+            this.indicated.remove(id);
         }
     }
 }
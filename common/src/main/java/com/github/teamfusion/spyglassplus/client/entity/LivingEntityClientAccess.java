@@ -10,4 +10,9 @@
 public interface LivingEntityClientAccess {
     List<StatusEffectInstance> getEffects();
     void setEffects(List<StatusEffectInstance> effects);
+
+    /**
+     * Extrapolates the remaining duration of a received effect from the time it was received.
+     */
+    int getRemainingDuration(StatusEffectInstance effect);
 }
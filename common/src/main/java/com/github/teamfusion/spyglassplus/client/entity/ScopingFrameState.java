@@ -0,0 +1,71 @@
+package com.github.teamfusion.spyglassplus.client.entity;
+
+import com.github.teamfusion.spyglassplus.client.SpyglassPlusClient;
+import com.github.teamfusion.spyglassplus.entity.ScopingEntity;
+import com.github.teamfusion.spyglassplus.entity.ScopingPlayer;
+import com.github.teamfusion.spyglassplus.item.ScopingProfile;
+import com.github.teamfusion.spyglassplus.mixin.client.GameRendererMixin;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.entity.Entity;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The scoping state of the client camera, captured once at the start of each frame for the
+ * render mixins that run for every entity, so that they do not each look it up again.
+ * <p>Render mixins should return early when {@link #scoping()} is false.</p>
+ *
+ * @param camera the camera entity, when scoping
+ * @param scoping whether the camera entity is scoping
+ * @param firstPerson whether the perspective is first person
+ * @param inSpyglassStand whether the client player is using a spyglass stand
+ * @param profile the camera's scoping profile, or empty when not scoping
+ * @param targetedEntity the entity at the scoping crosshair
+ * @param commandEntity the entity allies would be commanded to target
+ * @param lastCommandedEntity the entity allies were last commanded to target
+ * @see GameRendererMixin
+ */
+@Environment(EnvType.CLIENT)
+public record ScopingFrameState(
+    @Nullable Entity camera, boolean scoping, boolean firstPerson, boolean inSpyglassStand, ScopingProfile profile,
+    @Nullable Entity targetedEntity, @Nullable Entity commandEntity, @Nullable Entity lastCommandedEntity
+) {
+    public static final ScopingFrameState NOT_SCOPING = new ScopingFrameState(null, false, false, false, ScopingProfile.EMPTY, null, null, null);
+
+    private static ScopingFrameState current = NOT_SCOPING;
+
+    public static ScopingFrameState get() {
+        return current;
+    }
+
+    /**
+     * Releases the entities held by the last frame's state.
+     */
+    public static void reset() {
+        current = NOT_SCOPING;
+    }
+
+    /**
+     * Captures the state for the frame about to be rendered.
+     */
+    public static void update(MinecraftClient client) {
+        boolean inSpyglassStand = client.player != null && ScopingPlayer.cast(client.player).hasSpyglassStand();
+        if (!(client.getCameraEntity() instanceof ScopingEntity scopingEntity) || !scopingEntity.isScoping()) {
+            current = inSpyglassStand ? new ScopingFrameState(null, false, client.options.getPerspective().isFirstPerson(), true, ScopingProfile.EMPTY, null, null, null) : NOT_SCOPING;
+            return;
+        }
+
+        CommandTargetManager commandTargetManager = SpyglassPlusClient.COMMAND_TARGET_MANAGER;
+        current = new ScopingFrameState(
+            (Entity) scopingEntity,
+            true,
+            client.options.getPerspective().isFirstPerson(),
+            inSpyglassStand,
+            scopingEntity.getScopingProfile(),
+            SpyglassPlusClient.SCOPING_TARGET_MANAGER.getTargetedEntity(),
+            commandTargetManager.getEntity(),
+            commandTargetManager.getLastTargetedEntity()
+        );
+    }
+}
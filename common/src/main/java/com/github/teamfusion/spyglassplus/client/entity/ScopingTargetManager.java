@@ -0,0 +1,106 @@
+package com.github.teamfusion.spyglassplus.client.entity;
+
+import com.github.teamfusion.spyglassplus.client.SpyglassPlusClient;
+import com.github.teamfusion.spyglassplus.client.config.SpyglassPlusConfig;
+import com.github.teamfusion.spyglassplus.client.config.SpyglassPlusConfig.TargetingConfig;
+import com.github.teamfusion.spyglassplus.enchantment.SpyglassPlusEnchantments;
+import com.github.teamfusion.spyglassplus.entity.ScopingEntity;
+import com.github.teamfusion.spyglassplus.entity.SpyglassStandEntity;
+import com.github.teamfusion.spyglassplus.mixin.client.GameRendererMixin;
+import com.github.teamfusion.spyglassplus.world.ScopingRaycastResult;
+import com.github.teamfusion.spyglassplus.world.SpyglassRaycasting;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.Util;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.Vec2f;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Predicate;
+
+/**
+ * Manages the entity at the scoping camera's crosshair, used by {@link SpyglassPlusEnchantments#DISCOVERY}
+ * and {@link SpyglassPlusEnchantments#INDICATE}, and predicts the target for {@link SpyglassPlusEnchantments#COMMAND}.
+ * <p>The raycast runs at a configured rate rather than every frame, plus whenever the camera
+ * turns further than a configured threshold since the last raycast.</p>
+ *
+ * @see GameRendererMixin
+ */
+@Environment(EnvType.CLIENT)
+public class ScopingTargetManager {
+    private final MinecraftClient client;
+
+    @Nullable private Entity targetedEntity;
+
+    @Nullable private Entity lastCamera;
+    private long lastRaycastTime;
+    private float lastYaw, lastPitch;
+
+    public ScopingTargetManager() {
+        this.client = MinecraftClient.getInstance();
+    }
+
+    /**
+     * Updates the targeted entity if it is due, called every frame.
+     */
+    public void update(float tickDelta) {
+        Entity camera = this.client.getCameraEntity();
+        if (camera == null || !this.client.options.getPerspective().isFirstPerson() || !(camera instanceof ScopingEntity scopingEntity) || !scopingEntity.isScoping()) {
+            this.reset();
+            return;
+        }
+
+        TargetingConfig config = SpyglassPlusConfig.get().targeting;
+        long time = Util.getMeasuringTimeNano();
+        Vec2f rotation = getRotation(camera, tickDelta);
+
+        boolean due = camera != this.lastCamera
+            || time - this.lastRaycastTime >= 1_000_000_000L / Math.max(1, config.raycastsPerSecond)
+            || Math.abs(MathHelper.wrapDegrees(rotation.x - this.lastYaw)) > config.rotationThreshold
+            || Math.abs(rotation.y - this.lastPitch) > config.rotationThreshold;
+
+        if (due) {
+            if (scopingEntity.getScopingProfile().getCommandLevel() > 0 && this.client.player != null) {
+                // predicts the command target in the same pass, with the server's rules minus data-only owners
+                Predicate<Entity> commandPredicate = ScopingRaycastResult.createClientCommandPredicate(this.client.player);
+                Entity[] entities = SpyglassRaycasting.raycastAll(camera, rotation, tickDelta, SpyglassRaycasting.MAX_RAYCAST_DISTANCE, entity -> true, commandPredicate);
+                this.targetedEntity = entities[0];
+                SpyglassPlusClient.COMMAND_TARGET_MANAGER.predict(entities[1]);
+            } else {
+                this.targetedEntity = SpyglassRaycasting.raycast(camera, rotation, tickDelta);
+                SpyglassPlusClient.COMMAND_TARGET_MANAGER.predict(null);
+            }
+
+            this.lastCamera = camera;
+            this.lastRaycastTime = time;
+            this.lastYaw = rotation.x;
+            this.lastPitch = rotation.y;
+        }
+    }
+
+    public void reset() {
+        this.targetedEntity = null;
+        this.lastCamera = null;
+        SpyglassPlusClient.COMMAND_TARGET_MANAGER.reset();
+    }
+
+    /**
+     * @return the entity at the crosshair as of the last raycast, or null if it has since been removed
+     */
+    @Nullable
+    public Entity getTargetedEntity() {
+        Entity entity = this.targetedEntity;
+        return entity == null || entity.isRemoved() ? null : entity;
+    }
+
+    /**
+     * Retrieves the rotation from the camera, dependent on whether it is a {@link SpyglassStandEntity}.
+     */
+    public static Vec2f getRotation(Entity camera, float tickDelta) {
+        return camera instanceof SpyglassStandEntity stand
+            ? new Vec2f(stand.getSpyglassYaw(tickDelta), stand.getSpyglassPitch(tickDelta))
+            : new Vec2f(camera.getYaw(tickDelta), camera.getPitch(tickDelta));
+    }
+}
@@ -1,19 +1,18 @@
 package com.github.teamfusion.spyglassplus.client.gui;
 
 import com.github.teamfusion.spyglassplus.SpyglassPlus;
+import com.github.teamfusion.spyglassplus.client.SpyglassPlusClient;
 import com.github.teamfusion.spyglassplus.client.config.SpyglassPlusConfig;
 import com.github.teamfusion.spyglassplus.client.config.SpyglassPlusConfig.DisplayConfig.DiscoveryHudConfig;
 import com.github.teamfusion.spyglassplus.client.entity.LivingEntityClientAccess;
+import com.github.teamfusion.spyglassplus.client.entity.ScopingTargetManager;
 import com.github.teamfusion.spyglassplus.client.event.DiscoveryHudRenderEvent;
-import com.github.teamfusion.spyglassplus.enchantment.DiscoveryEnchantment;
 import com.github.teamfusion.spyglassplus.enchantment.SpyglassPlusEnchantments;
 import com.github.teamfusion.spyglassplus.entity.DiscoveryHudEntitySetup;
 import com.github.teamfusion.spyglassplus.entity.ScopingEntity;
 import com.github.teamfusion.spyglassplus.entity.SpyglassStandEntity;
-import com.github.teamfusion.spyglassplus.mixin.client.EntityMixin;
 import com.github.teamfusion.spyglassplus.mixin.client.InGameHudMixin;
 import com.github.teamfusion.spyglassplus.tag.SpyglassPlusEntityTypeTags;
-import com.github.teamfusion.spyglassplus.world.SpyglassRaycasting;
 import com.mojang.blaze3d.systems.RenderSystem;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
@@ -42,7 +41,6 @@
 import net.minecraft.entity.attribute.EntityAttributes;
 import net.minecraft.entity.effect.StatusEffect;
 import net.minecraft.entity.effect.StatusEffectInstance;
-import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NbtCompound;
 import net.minecraft.registry.tag.TagKey;
 import net.minecraft.text.OrderedText;
@@ -77,10 +75,9 @@
 
 /**
  * Responsible for rendering the HUD elements created by {@link SpyglassPlusEnchantments#DISCOVERY}.
- * Responsible also for calculating {@link #targetedEntity}, used for {@link SpyglassPlusEnchantments#INDICATE}.
+ * The entity at the crosshair is provided by {@link ScopingTargetManager}.
  *
  * @see InGameHudMixin implementation of render
- * @see EntityMixin implementation of targetedEntity
  */
 @SuppressWarnings("unused")
 @Environment(EnvType.CLIENT)
@@ -139,11 +136,6 @@ public class DiscoveryHudRenderer extends DrawableHelper {
      */
     protected Entity activeEntity;
 
-    /**
-     * The entity at the player's crosshair. May not be equal to {@link #activeEntity}.
-     */
-    protected Entity targetedEntity;
-
     /**
      * How open the discovery HUD is, similar to spyglassScale in {@link InGameHud}.
      */
@@ -199,18 +191,14 @@ public void reset() {
     public boolean render(MatrixStack matrices, float tickDelta, Entity camera) {
         if (!this.client.options.getPerspective().isFirstPerson() || !(camera instanceof ScopingEntity scopingEntity) || !scopingEntity.isScoping()) {
             this.activeEntity = null;
-            this.targetedEntity = null;
             return false;
         }
 
-        this.targetedEntity = SpyglassRaycasting.raycast(camera, this.getRotation(camera, tickDelta), tickDelta);
-
         if (DiscoveryHudRenderEvent.PRE.invoker().render(this, matrices, tickDelta, camera).isFalse()) {
             return false;
         }
 
-        ItemStack stack = scopingEntity.getScopingStack();
-        int level = DiscoveryEnchantment.getLevel(stack);
+        int level = scopingEntity.getScopingProfile().getDiscoveryLevel();
         if (!(level > 0)) {
             return false;
         }
@@ -300,17 +288,18 @@ public boolean render(MatrixStack matrices, float tickDelta, Entity camera) {
                 if (level >= 2) {
                     if (this.activeEntity instanceof LivingEntity livingEntity) {
                         // `effects`
-                        List<StatusEffectInstance> effects = ((LivingEntityClientAccess) livingEntity).getEffects()
-                                                                                                      .stream()
-                                                                                                      .filter(StatusEffectInstance::shouldShowIcon)
-                                                                                                      .toList();
+                        LivingEntityClientAccess access = (LivingEntityClientAccess) livingEntity;
+                        List<StatusEffectInstance> effects = access.getEffects()
+                                                                   .stream()
+                                                                   .filter(StatusEffectInstance::shouldShowIcon)
+                                                                   .toList();
 
                         List<StatusEffectInstance> beneficial = effects.stream().filter(effect -> effect.getEffectType().isBeneficial()).toList();
                         List<StatusEffectInstance> notBeneficial = effects.stream().filter(effect -> !effect.getEffectType().isBeneficial()).toList();
 
                         int y = boxTopY + BOX_HEIGHT + 1;
-                        this.renderStatusEffects(matrices, beneficial, leftX, y, 0);
-                        this.renderStatusEffects(matrices, notBeneficial, leftX, y, beneficial.isEmpty() ? 0 : 25);
+                        this.renderStatusEffects(matrices, access, beneficial, leftX, y, 0);
+                        this.renderStatusEffects(matrices, access, notBeneficial, leftX, y, beneficial.isEmpty() ? 0 : 25);
                     }
                 }
             }
@@ -378,16 +367,17 @@ public boolean render(MatrixStack matrices, float tickDelta, Entity camera) {
     }
 
     public boolean hudShouldOpen() {
-        return this.targetedEntity != null;
+        return this.getTargetedEntity() != null;
     }
 
     protected void trySyncTargetedEntityToActive() {
-        if (this.hudShouldOpen()) {
-            this.activeEntity = this.targetedEntity;
+        Entity targetedEntity = this.getTargetedEntity();
+        if (targetedEntity != null) {
+            this.activeEntity = targetedEntity;
         }
     }
 
-    public void renderStatusEffects(MatrixStack matrices, List<StatusEffectInstance> effects, int rawX, int rawY, int yOffset) {
+    public void renderStatusEffects(MatrixStack matrices, LivingEntityClientAccess entity, List<StatusEffectInstance> effects, int rawX, int rawY, int yOffset) {
         if (!effects.isEmpty()) {
             int count = effects.size();
             float xOffset = max(6, count > 4 ? (BOX_WIDTH - 3f) / count : 25);
@@ -399,9 +389,9 @@ public void renderStatusEffects(MatrixStack matrices, List<StatusEffectInstance>
                 StatusEffectInstance effect = effects.get(i);
                 StatusEffect type = effect.getEffectType();
 
-                int duration = effect.getDuration();
+                int duration = entity.getRemainingDuration(effect);
                 float alpha = 1.0f;
-                if (duration <= 200) {
+                if (!effect.isInfinite() && duration <= 200) {
                     int m = 10 - duration / 20;
                     alpha = clamp(duration / 10f / 5 * 0.5f, 0.0f, 0.5f) + (cos((duration * (float) PI) / 5.0f) * clamp((m / 10f) * 0.25f, 0.0f, 0.25f));
                 }
@@ -629,9 +619,7 @@ public void drawEntity(int x, int y, float xScale, float yScale, int scale, Enti
      * Retrieves the rotation from the camera, dependent on whether it is a {@link SpyglassStandEntity}.
      */
     public Vec2f getRotation(Entity camera, float tickDelta) {
-        return camera instanceof SpyglassStandEntity stand
-            ? new Vec2f(stand.getSpyglassYaw(tickDelta), stand.getSpyglassPitch(tickDelta))
-            : new Vec2f(camera.getYaw(tickDelta), camera.getPitch(tickDelta));
+        return ScopingTargetManager.getRotation(camera, tickDelta);
     }
 
     public static String translate(String suffix) {
@@ -642,8 +630,11 @@ public Entity getActiveEntity() {
         return this.activeEntity;
     }
 
+    /**
+     * The entity at the player's crosshair. May not be equal to {@link #activeEntity}.
+     */
     public Entity getTargetedEntity() {
-        return this.targetedEntity;
+        return SpyglassPlusClient.SCOPING_TARGET_MANAGER.getTargetedEntity();
     }
 
     public float getOpenProgress() {
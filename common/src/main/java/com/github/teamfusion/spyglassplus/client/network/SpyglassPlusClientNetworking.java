@@ -1,95 +1,113 @@
 package com.github.teamfusion.spyglassplus.client.network;
 
+import com.github.teamfusion.spyglassplus.SpyglassPlus;
 import com.github.teamfusion.spyglassplus.client.SpyglassPlusClient;
 import com.github.teamfusion.spyglassplus.client.entity.CommandTargetManager;
-import com.github.teamfusion.spyglassplus.client.entity.IndicateTargetManager;
 import com.github.teamfusion.spyglassplus.client.entity.LivingEntityClientAccess;
 import com.github.teamfusion.spyglassplus.enchantment.SpyglassPlusEnchantments;
+import com.github.teamfusion.spyglassplus.network.PacketBundler;
 import com.github.teamfusion.spyglassplus.network.SpyglassPlusNetworking;
+import com.github.teamfusion.spyglassplus.network.packet.CommandTargetedPacket;
+import com.github.teamfusion.spyglassplus.network.packet.CommandUpdatePacket;
+import com.github.teamfusion.spyglassplus.network.packet.EffectsUpdatePacket;
+import com.github.teamfusion.spyglassplus.network.packet.IndicateSnapshotPacket;
+import com.github.teamfusion.spyglassplus.network.packet.IndicateUpdatePacket;
 import com.github.teamfusion.spyglassplus.sound.SpyglassPlusSoundEvents;
 import dev.architectury.networking.NetworkManager;
 import dev.architectury.networking.NetworkManager.PacketContext;
 import dev.architectury.networking.NetworkManager.Side;
+import it.unimi.dsi.fastutil.ints.IntList;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.LivingEntity;
-import net.minecraft.entity.effect.StatusEffectInstance;
-import net.minecraft.nbt.NbtCompound;
-import net.minecraft.nbt.NbtElement;
-import net.minecraft.nbt.NbtList;
 import net.minecraft.network.PacketByteBuf;
 import net.minecraft.particle.ParticleTypes;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
-import static com.github.teamfusion.spyglassplus.item.ISpyglass.EFFECTS_KEY;
-
 @Environment(EnvType.CLIENT)
 public interface SpyglassPlusClientNetworking extends SpyglassPlusNetworking {
     static void registerReceivers() {
-        NetworkManager.registerReceiver(Side.S2C, EFFECTS_UPDATE_PACKET_ID, SpyglassPlusClientNetworking::onDiscoveryEffectsUpdate);
-        NetworkManager.registerReceiver(Side.S2C, INDICATE_UPDATE_PACKET_ID, SpyglassPlusClientNetworking::onIndicateUpdate);
-        NetworkManager.registerReceiver(Side.S2C, COMMAND_UPDATE_PACKET_ID, SpyglassPlusClientNetworking::onCommandUpdate);
-        NetworkManager.registerReceiver(Side.S2C, COMMAND_TARGETED_PACKET_ID, SpyglassPlusClientNetworking::onCommandTargeted);
+        NetworkManager.registerReceiver(Side.S2C, BUNDLE_PACKET_ID, SpyglassPlusClientNetworking::onBundle);
+    }
+
+    /**
+     * Receives a tick's Spyglass+ messages, reading them all before handling them together on the client thread.
+     *
+     * @see PacketBundler
+     */
+    static void onBundle(PacketByteBuf buf, PacketContext context) {
+        List<Runnable> handlers = new ArrayList<>();
+        while (buf.isReadable()) {
+            byte type = buf.readByte();
+            handlers.add(switch (type) {
+                case PacketBundler.INDICATE_UPDATE -> onIndicateUpdate(buf);
+                case PacketBundler.COMMAND_UPDATE -> onCommandUpdate(buf);
+                case PacketBundler.COMMAND_TARGETED -> onCommandTargeted(buf);
+                case PacketBundler.EFFECTS_UPDATE -> onDiscoveryEffectsUpdate(buf);
+                case PacketBundler.INDICATE_SNAPSHOT -> onIndicateSnapshot(buf);
+                default -> throw new IllegalStateException("Unknown %s message type %d".formatted(SpyglassPlus.MOD_NAME, type));
+            });
+        }
+
+        MinecraftClient.getInstance().execute(() -> handlers.forEach(Runnable::run));
     }
 
     /**
      * Receives an entity's effects for {@link SpyglassPlusEnchantments#DISCOVERY}.
      */
-    static void onDiscoveryEffectsUpdate(PacketByteBuf buf, PacketContext context) {
-        int id = buf.readInt();
-        NbtCompound nbt = buf.readNbt();
-        MinecraftClient client = MinecraftClient.getInstance();
-        client.execute(() -> {
-            if (client.world.getEntityById(id) instanceof LivingEntity livingEntity) {
-                NbtList nbtEffects = nbt.getList(EFFECTS_KEY, NbtElement.COMPOUND_TYPE);
-                List<StatusEffectInstance> list = new ArrayList<>();
-                nbtEffects.stream()
-                          .filter(NbtCompound.class::isInstance)
-                          .map(NbtCompound.class::cast)
-                          .map(StatusEffectInstance::fromNbt)
-                          .forEach(list::add);
-                ((LivingEntityClientAccess) livingEntity).setEffects(Collections.unmodifiableList(list));
+    static Runnable onDiscoveryEffectsUpdate(PacketByteBuf buf) {
+        EffectsUpdatePacket packet = EffectsUpdatePacket.read(buf);
+        return () -> {
+            MinecraftClient client = MinecraftClient.getInstance();
+            if (client.world.getEntityById(packet.entityId()) instanceof LivingEntity livingEntity) {
+                ((LivingEntityClientAccess) livingEntity).setEffects(packet.effects());
             }
-        });
+        };
     }
 
     /**
      * Receives an entity's updates for {@link SpyglassPlusEnchantments#INDICATE}.
      */
-    static void onIndicateUpdate(PacketByteBuf buf, PacketContext context) {
-        int oldId = buf.readInt();
-        int newId = buf.readInt();
-        if (newId != oldId) {
-            IndicateTargetManager targetManager = SpyglassPlusClient.INDICATE_TARGET_MANAGER;
-            targetManager.increment(newId);
-            targetManager.decrement(oldId);
-        }
+    static Runnable onIndicateUpdate(PacketByteBuf buf) {
+        IndicateUpdatePacket packet = IndicateUpdatePacket.read(buf);
+        return () -> SpyglassPlusClient.INDICATE_TARGET_MANAGER.setIndicated(packet.entityId(), packet.indicated());
+    }
+
+    /**
+     * Receives the indicated entities this client started tracking for {@link SpyglassPlusEnchantments#INDICATE}.
+     */
+    static Runnable onIndicateSnapshot(PacketByteBuf buf) {
+        IndicateSnapshotPacket packet = IndicateSnapshotPacket.read(buf);
+        return () -> {
+            IntList entityIds = packet.entityIds();
+            for (int i = 0, size = entityIds.size(); i < size; i++) {
+                SpyglassPlusClient.INDICATE_TARGET_MANAGER.setIndicated(entityIds.getInt(i), true);
+            }
+        };
     }
 
     /**
      * Receives this client's active entity for {@link SpyglassPlusEnchantments#COMMAND}.
      */
-    static void onCommandUpdate(PacketByteBuf buf, PacketContext context) {
-        int id = buf.readInt();
-        MinecraftClient client = MinecraftClient.getInstance();
-        client.execute(() -> SpyglassPlusClient.COMMAND_TARGET_MANAGER.setEntity(id));
+    static Runnable onCommandUpdate(PacketByteBuf buf) {
+        CommandUpdatePacket packet = CommandUpdatePacket.read(buf);
+        return () -> SpyglassPlusClient.COMMAND_TARGET_MANAGER.setEntity(packet.entityId());
     }
 
     /**
      * Received when an entity is targeted with {@link SpyglassPlusEnchantments#COMMAND}.
      */
-    static void onCommandTargeted(PacketByteBuf buf, PacketContext context) {
-        int id = buf.readInt();
-        MinecraftClient client = MinecraftClient.getInstance();
-        client.execute(() -> {
+    static Runnable onCommandTargeted(PacketByteBuf buf) {
+        CommandTargetedPacket packet = CommandTargetedPacket.read(buf);
+        return () -> {
+            MinecraftClient client = MinecraftClient.getInstance();
             CommandTargetManager manager = SpyglassPlusClient.COMMAND_TARGET_MANAGER;
             Entity old = manager.getLastTargetedEntity();
-            Entity entity = manager.setLastTargetedEntity(id);
+            Entity entity = manager.setLastTargetedEntity(packet.entityId());
             if (entity != old) {
                 if (entity != null) {
                     client.player.playSound(SpyglassPlusSoundEvents.ENCHANT_COMMAND_TRIGGER.get(), 1.0F, 1.0F);
@@ -98,6 +116,6 @@ static void onCommandTargeted(PacketByteBuf buf, PacketContext context) {
                     client.player.playSound(SpyglassPlusSoundEvents.ENCHANT_COMMAND_UNTARGET.get(), 1.0F, 1.0F);
                 }
             }
-        });
+        };
     }
 }
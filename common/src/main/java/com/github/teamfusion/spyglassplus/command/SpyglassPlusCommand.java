@@ -0,0 +1,45 @@
+package com.github.teamfusion.spyglassplus.command;
+
+import com.github.teamfusion.spyglassplus.SpyglassPlus;
+import com.github.teamfusion.spyglassplus.util.SpyglassPlusMetrics;
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.server.command.CommandManager;
+import net.minecraft.server.command.ServerCommandSource;
+import net.minecraft.text.Text;
+import net.minecraft.util.Formatting;
+
+/**
+ * The {@code /spyglassplus} command, for operators to inspect {@link SpyglassPlusMetrics}.
+ */
+public interface SpyglassPlusCommand {
+    static void register(CommandDispatcher<ServerCommandSource> dispatcher) {
+        dispatcher.register(
+            CommandManager.literal(SpyglassPlus.MOD_ID)
+                          .requires(source -> source.hasPermissionLevel(2))
+                          .then(CommandManager.literal("metrics")
+                                              .executes(SpyglassPlusCommand::executeMetrics)
+                                              .then(CommandManager.literal("reset").executes(SpyglassPlusCommand::executeMetricsReset)))
+        );
+    }
+
+    private static int executeMetrics(CommandContext<ServerCommandSource> context) {
+        ServerCommandSource source = context.getSource();
+        source.sendFeedback(Text.literal(SpyglassPlus.MOD_NAME + " metrics:").formatted(Formatting.GOLD), false);
+        for (SpyglassPlusMetrics.Counter counter : SpyglassPlusMetrics.getCounters()) {
+            source.sendFeedback(Text.literal(" %s: %d".formatted(counter.getName(), counter.get())), false);
+        }
+
+        for (SpyglassPlusMetrics.Gauge gauge : SpyglassPlusMetrics.getGauges()) {
+            source.sendFeedback(Text.literal(" %s: %d".formatted(gauge.getName(), gauge.get())), false);
+        }
+
+        return SpyglassPlusMetrics.getCounters().size() + SpyglassPlusMetrics.getGauges().size();
+    }
+
+    private static int executeMetricsReset(CommandContext<ServerCommandSource> context) {
+        SpyglassPlusMetrics.reset();
+        context.getSource().sendFeedback(Text.literal("Reset " + SpyglassPlus.MOD_NAME + " metrics"), true);
+        return 1;
+    }
+}
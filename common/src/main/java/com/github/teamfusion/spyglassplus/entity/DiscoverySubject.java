@@ -0,0 +1,62 @@
+package com.github.teamfusion.spyglassplus.entity;
+
+import com.github.teamfusion.spyglassplus.enchantment.SpyglassPlusEnchantments;
+import com.github.teamfusion.spyglassplus.mixin.LivingEntityMixin;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.server.network.ServerPlayerEntity;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An interface implemented into all {@link LivingEntity} instances, holding the players
+ * subscribed to this entity's data for {@link SpyglassPlusEnchantments#DISCOVERY}.
+ *
+ * @see LivingEntityMixin
+ */
+public interface DiscoverySubject {
+    static DiscoverySubject cast(LivingEntity entity) {
+        return (DiscoverySubject) entity;
+    }
+
+    /**
+     * Subscribes a player to the entity they are looking at, unsubscribing them from their previous subject.
+     *
+     * @param target the new subject, or null to only unsubscribe
+     */
+    static void subscribe(ServerPlayerEntity player, @Nullable Entity target) {
+        ScopingPlayer scopingPlayer = ScopingPlayer.cast(player);
+        LivingEntity subject = target instanceof LivingEntity livingEntity ? livingEntity : null;
+        LivingEntity previous = scopingPlayer.getDiscoverySubject();
+        if (previous == subject) {
+            return;
+        }
+
+        if (previous != null) {
+            cast(previous).removeDiscoverySubscriber(player);
+        }
+
+        if (subject != null) {
+            scopingPlayer.setDiscoverySubject(subject);
+            cast(subject).addDiscoverySubscriber(player);
+        }
+    }
+
+    /**
+     * Adds a subscriber and sends it this entity's current data.
+     */
+    void addDiscoverySubscriber(ServerPlayerEntity player);
+
+    /**
+     * Removes a subscriber, clearing its subject if it was this entity.
+     */
+    void removeDiscoverySubscriber(ServerPlayerEntity player);
+
+    boolean hasDiscoverySubscribers();
+
+    /**
+     * Sends this entity's effects to subscribers when they change, and periodically to resync durations.
+     * Called by the {@link com.github.teamfusion.spyglassplus.world.ScopingSessionManager} for each subscriber,
+     * so only the first call of a tick does anything.
+     */
+    void tickDiscoverySubscribers();
+}
@@ -1,5 +1,6 @@
 package com.github.teamfusion.spyglassplus.entity;
 
+import com.github.teamfusion.spyglassplus.item.ScopingProfile;
 import com.github.teamfusion.spyglassplus.mixin.PlayerEntityMixin;
 import net.minecraft.item.ItemStack;
 
@@ -19,6 +20,13 @@ default ItemStack getScopingStack() {
         return ItemStack.EMPTY;
     }
 
+    /**
+     * Retrieves the enchantment levels of {@link #getScopingStack()}, cached until the stack changes.
+     */
+    default ScopingProfile getScopingProfile() {
+        return ScopingProfile.of(this.getScopingStack());
+    }
+
     /**
      * Whether the entity is scoping in any way.
      */
@@ -1,6 +1,8 @@
 package com.github.teamfusion.spyglassplus.entity;
 
+import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.player.PlayerEntity;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Optional;
 
@@ -12,24 +14,63 @@ static ScopingPlayer cast(PlayerEntity player) {
         return (ScopingPlayer) player;
     }
 
-    default void setSpyglassStand(Integer id) {
+    /**
+     * The id held when a player is not using a spyglass stand.
+     */
+    int NO_SPYGLASS_STAND = -1;
+
+    /**
+     * Sets the id of the spyglass stand this player is using, or {@link #NO_SPYGLASS_STAND}.
+     */
+    default void setSpyglassStand(int id) {
     }
 
-    default void setSpyglassStandEntity(SpyglassStandEntity entity) {
+    default void setSpyglassStandEntity(@Nullable SpyglassStandEntity entity) {
     }
 
     default boolean hasSpyglassStand() {
         return false;
     }
 
-    default Optional<Integer> getSpyglassStand() {
-        return Optional.empty();
+    default int getSpyglassStand() {
+        return NO_SPYGLASS_STAND;
     }
 
     /**
      * Retrieves the {@link SpyglassStandEntity} instance attached to the result of {@link #getSpyglassStand()}.
+     * Prefer {@link #getSpyglassStandEntityOrNull()} on paths that run every tick or frame.
      */
     default Optional<SpyglassStandEntity> getSpyglassStandEntity() {
-        return Optional.empty();
+        return Optional.ofNullable(this.getSpyglassStandEntityOrNull());
+    }
+
+    /**
+     * @see #getSpyglassStandEntity()
+     */
+    @Nullable
+    default SpyglassStandEntity getSpyglassStandEntityOrNull() {
+        return null;
+    }
+
+    /**
+     * Retrieves the entity this player is subscribed to for Discovery data. Server-side only.
+     *
+     * @see DiscoverySubject
+     */
+    @Nullable
+    default LivingEntity getDiscoverySubject() {
+        return null;
+    }
+
+    default void setDiscoverySubject(@Nullable LivingEntity entity) {
+    }
+
+    /**
+     * Accepts the sequence number of a Command trigger, rejecting duplicate and reordered triggers. Server-side only.
+     *
+     * @return whether the sequence number is newer than the last accepted
+     */
+    default boolean acceptCommandSequence(int sequence) {
+        return true;
     }
 }
@@ -1,9 +1,11 @@
 package com.github.teamfusion.spyglassplus.entity;
 
 import com.github.teamfusion.spyglassplus.item.ISpyglass;
+import com.github.teamfusion.spyglassplus.item.ScopingProfile;
 import com.github.teamfusion.spyglassplus.item.SpyglassPlusItems;
 import com.github.teamfusion.spyglassplus.sound.SpyglassPlusSoundEvents;
 import com.github.teamfusion.spyglassplus.tag.SpyglassPlusItemTags;
+import com.github.teamfusion.spyglassplus.world.ScopingSessionManager;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.minecraft.block.Block;
@@ -34,6 +36,7 @@
 import net.minecraft.particle.ItemStackParticleEffect;
 import net.minecraft.particle.ParticleTypes;
 import net.minecraft.registry.tag.DamageTypeTags;
+import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.sound.SoundEvent;
 import net.minecraft.sound.SoundEvents;
@@ -93,6 +96,18 @@ public class SpyglassStandEntity extends LivingEntity implements ScopingEntity,
     protected long lastHitTime;
     protected boolean invisible;
 
+    private final ScopingProfile.Cache scopingProfileCache = new ScopingProfile.Cache();
+
+    /**
+     * A copy of {@link #USER}, updated when it is set, so that ticks do not read the data tracker.
+     */
+    @Nullable private UUID userUuid;
+
+    /**
+     * The resolved player of {@link #userUuid}, looked up again only when the user changes or the player is removed or leaves this world.
+     */
+    @Nullable private PlayerEntity userPlayer;
+
     /**
      * Rotation for user render.
      */
@@ -161,24 +176,42 @@ public void tickMovement() {
 
         super.tickMovement();
 
-        if (!this.world.isClient || this.isClientUser()) {
-            Optional<PlayerEntity> maybePlayer = this.getUserAsPlayer();
-            maybePlayer.ifPresent(this::tickUser);
+        if (this.userUuid == null) {
+            return;
+        }
 
-            if (!this.world.isClient && this.hasUser()) {
-                if (maybePlayer.isEmpty()) {
-                    this.setUser(null);
-                }
+        if (!this.world.isClient || this.isClientUser()) {
+            PlayerEntity player = this.getUserAsPlayerOrNull();
+            if (player != null) {
+                this.tickUser(player);
+            } else if (!this.world.isClient) {
+                this.setUser(null);
             }
         }
     }
 
     public Optional<PlayerEntity> getUserAsPlayer() {
-        return this.getUser().map(this.world::getPlayerByUuid);
+        return Optional.ofNullable(this.getUserAsPlayerOrNull());
+    }
+
+    @Nullable
+    public PlayerEntity getUserAsPlayerOrNull() {
+        if (this.userUuid == null) {
+            return null;
+        }
+
+        // players are removed when they leave or die, but a player moved to another world is no longer removed
+        PlayerEntity player = this.userPlayer;
+        if (player == null || player.isRemoved() || player.world != this.world) {
+            player = this.world.getPlayerByUuid(this.userUuid);
+            this.userPlayer = player;
+        }
+
+        return player;
     }
 
     public boolean isUser(PlayerEntity player) {
-        return player.getUuid().equals(this.getUser().orElse(null));
+        return this.userUuid != null && this.userUuid.equals(player.getUuid());
     }
 
     @Environment(EnvType.CLIENT)
@@ -237,6 +270,10 @@ public void useSpyglass(PlayerEntity player, ISpyglass spyglass) {
             Vec3i facing = Direction.getFacing(rotation.x, rotation.y, rotation.z).getVector();
             Vec3d pos = this.getPos().subtract(facing.getX(), facing.getY(), facing.getZ());
             player.teleport(pos.x, pos.y, pos.z);
+
+            if (player instanceof ServerPlayerEntity serverPlayer) {
+                ScopingSessionManager.startScoping(serverPlayer);
+            }
         }
     }
 
@@ -253,7 +290,7 @@ public void useSpyglassClient(PlayerEntity player) {
      */
     public void stopUsingSpyglass(PlayerEntity player, @Nullable ISpyglass spyglass) {
         ScopingPlayer scopingPlayer = ScopingPlayer.cast(player);
-        scopingPlayer.setSpyglassStand(null);
+        scopingPlayer.setSpyglassStandEntity(null);
         this.setUser(null);
 
         if (this.world.isClient) {
@@ -285,7 +322,7 @@ public boolean isWithinUseRange(Entity entity) {
 
     public boolean doesNotMatch(PlayerEntity player) {
         ScopingPlayer scopingPlayer = ScopingPlayer.cast(player);
-        return scopingPlayer.getSpyglassStandEntity().orElse(null) != this;
+        return scopingPlayer.getSpyglassStandEntityOrNull() != this;
     }
 
     @Override
@@ -293,6 +330,11 @@ public ItemStack getScopingStack() {
         return this.getSpyglassStack();
     }
 
+    @Override
+    public ScopingProfile getScopingProfile() {
+        return this.scopingProfileCache.get(this.getScopingStack());
+    }
+
     @Override
     public boolean isScoping() {
         return this.hasUser();
@@ -452,6 +494,11 @@ public void onTrackedDataSet(TrackedData<?> data) {
             this.intersectionChecked = !this.isMarker();
         }
 
+        if (USER.equals(data)) {
+            this.userUuid = this.getUser().orElse(null);
+            this.userPlayer = null;
+        }
+
         super.onTrackedDataSet(data);
     }
 
@@ -659,7 +706,7 @@ public Optional<UUID> getUser() {
     }
 
     public boolean hasUser() {
-        return this.getUser().isPresent();
+        return this.userUuid != null;
     }
 
     public void setUser(@Nullable UUID uuid) {
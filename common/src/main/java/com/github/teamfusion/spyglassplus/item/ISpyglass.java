@@ -3,6 +3,8 @@
 import com.github.teamfusion.spyglassplus.SpyglassPlus;
 import com.github.teamfusion.spyglassplus.enchantment.SpyglassPlusEnchantments;
 import com.github.teamfusion.spyglassplus.sound.SpyglassPlusSoundEvents;
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntList;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.minecraft.client.item.TooltipContext;
@@ -19,10 +21,13 @@
 
 import java.util.List;
 
+/**
+ * Implemented by items that can scope. Implementations that do not extend {@link net.minecraft.item.SpyglassItem}
+ * should override {@link Item#isEnchantable(ItemStack)} and {@link Item#getEnchantability()} to use
+ * {@link #isSpyglassEnchantable(ItemStack)} and {@link #getSpyglassEnchantability()}.
+ */
 public interface ISpyglass {
-    String
-        LOCAL_SCRUTINY_LEVEL_KEY = "LocalScrutinyLevel",
-        EFFECTS_KEY = "Effects";
+    String LOCAL_SCRUTINY_LEVEL_KEY = "LocalScrutinyLevel";
 
     default boolean isSpyglassEnchantable(ItemStack stack) {
         return true;
@@ -54,11 +59,32 @@ default SoundEvent getResetAdjustSound() {
     default int adjustScrutiny(ItemStack stack, int max, int delta) {
         NbtCompound nbt = stack.getOrCreateNbt();
         int local = nbt.contains(LOCAL_SCRUTINY_LEVEL_KEY) ? nbt.getInt(LOCAL_SCRUTINY_LEVEL_KEY) : max;
-        int adjusted = delta == 0 ? 0 : MathHelper.clamp(local + delta, -max, max);
+        int adjusted = adjustScrutinyLevel(local, max, delta);
         nbt.putInt(LOCAL_SCRUTINY_LEVEL_KEY, adjusted);
         return adjusted;
     }
 
+    /**
+     * Applies several scroll deltas in order, writing the local scrutiny level once.
+     */
+    default int adjustScrutiny(ItemStack stack, int max, IntList deltas) {
+        NbtCompound nbt = stack.getOrCreateNbt();
+        int adjusted = nbt.contains(LOCAL_SCRUTINY_LEVEL_KEY) ? nbt.getInt(LOCAL_SCRUTINY_LEVEL_KEY) : max;
+        for (IntIterator iterator = deltas.iterator(); iterator.hasNext(); ) {
+            adjusted = adjustScrutinyLevel(adjusted, max, iterator.nextInt());
+        }
+
+        nbt.putInt(LOCAL_SCRUTINY_LEVEL_KEY, adjusted);
+        return adjusted;
+    }
+
+    /**
+     * Adjusts a local scrutiny level by a scroll delta, where a delta of 0 resets it.
+     */
+    static int adjustScrutinyLevel(int local, int max, int delta) {
+        return delta == 0 ? 0 : MathHelper.clamp(local + delta, -max, max);
+    }
+
     static boolean hasLocalScrutinyLevel(ItemStack stack) {
         NbtCompound nbt = stack.getNbt();
         return nbt != null && nbt.contains(LOCAL_SCRUTINY_LEVEL_KEY);
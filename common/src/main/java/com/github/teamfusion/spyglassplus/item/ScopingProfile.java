@@ -0,0 +1,161 @@
+package com.github.teamfusion.spyglassplus.item;
+
+import com.github.teamfusion.spyglassplus.enchantment.SpyglassPlusEnchantments;
+import com.github.teamfusion.spyglassplus.entity.ScopingEntity;
+import net.minecraft.enchantment.Enchantment;
+import net.minecraft.enchantment.EnchantmentHelper;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtElement;
+import net.minecraft.nbt.NbtList;
+import net.minecraft.util.math.MathHelper;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The Spyglass+ enchantment levels and local scrutiny level of a scoping stack, packed into one int.
+ * <p>Levels are capped at {@value #MAX_LEVEL}, and the local scrutiny level is stored with an offset as it can be negative.</p>
+ *
+ * @see ScopingEntity#getScopingProfile()
+ */
+public final class ScopingProfile {
+    private static final int LEVEL_BITS = 5;
+    private static final int MAX_LEVEL = (1 << LEVEL_BITS) - 1;
+    private static final int LEVEL_MASK = MAX_LEVEL;
+
+    private static final int
+        SCRUTINY_SHIFT = 0,
+        ILLUMINATE_SHIFT = LEVEL_BITS,
+        INDICATE_SHIFT = LEVEL_BITS * 2,
+        DISCOVERY_SHIFT = LEVEL_BITS * 3,
+        COMMAND_SHIFT = LEVEL_BITS * 4,
+        LOCAL_SCRUTINY_SHIFT = LEVEL_BITS * 5;
+
+    private static final int LOCAL_SCRUTINY_MASK = 0x3F;
+    private static final int LOCAL_SCRUTINY_OFFSET = 32;
+
+    public static final ScopingProfile EMPTY = new ScopingProfile(0, 0);
+
+    private final int packed;
+
+    private ScopingProfile(int levels, int localScrutinyLevel) {
+        this.packed = levels | (MathHelper.clamp(localScrutinyLevel + LOCAL_SCRUTINY_OFFSET, 0, LOCAL_SCRUTINY_MASK) << LOCAL_SCRUTINY_SHIFT);
+    }
+
+    /**
+     * Decodes the profile of a stack. Prefer {@link ScopingEntity#getScopingProfile()}, which is cached.
+     */
+    public static ScopingProfile of(ItemStack stack) {
+        if (stack.isEmpty()) {
+            return EMPTY;
+        }
+
+        int localScrutinyLevel = ISpyglass.getLocalScrutinyLevel(stack);
+        if (!stack.hasEnchantments()) {
+            return localScrutinyLevel == 0 ? EMPTY : new ScopingProfile(0, localScrutinyLevel);
+        }
+
+        int levels = pack(SpyglassPlusEnchantments.SCRUTINY.get(), stack, SCRUTINY_SHIFT)
+                   | pack(SpyglassPlusEnchantments.ILLUMINATE.get(), stack, ILLUMINATE_SHIFT)
+                   | pack(SpyglassPlusEnchantments.INDICATE.get(), stack, INDICATE_SHIFT)
+                   | pack(SpyglassPlusEnchantments.DISCOVERY.get(), stack, DISCOVERY_SHIFT)
+                   | pack(SpyglassPlusEnchantments.COMMAND.get(), stack, COMMAND_SHIFT);
+        return new ScopingProfile(levels, localScrutinyLevel);
+    }
+
+    private static int pack(Enchantment enchantment, ItemStack stack, int shift) {
+        return Math.min(EnchantmentHelper.getLevel(enchantment, stack), MAX_LEVEL) << shift;
+    }
+
+    private int getLevel(int shift) {
+        return (this.packed >>> shift) & LEVEL_MASK;
+    }
+
+    public int getScrutinyLevel() {
+        return this.getLevel(SCRUTINY_SHIFT);
+    }
+
+    public int getIlluminateLevel() {
+        return this.getLevel(ILLUMINATE_SHIFT);
+    }
+
+    public int getIndicateLevel() {
+        return this.getLevel(INDICATE_SHIFT);
+    }
+
+    public int getDiscoveryLevel() {
+        return this.getLevel(DISCOVERY_SHIFT);
+    }
+
+    public int getCommandLevel() {
+        return this.getLevel(COMMAND_SHIFT);
+    }
+
+    /**
+     * @see ISpyglass#getLocalScrutinyLevel(ItemStack)
+     */
+    public int getLocalScrutinyLevel() {
+        return ((this.packed >>> LOCAL_SCRUTINY_SHIFT) & LOCAL_SCRUTINY_MASK) - LOCAL_SCRUTINY_OFFSET;
+    }
+
+    private ScopingProfile withLocalScrutinyLevel(int localScrutinyLevel) {
+        int levels = this.packed & ~(LOCAL_SCRUTINY_MASK << LOCAL_SCRUTINY_SHIFT);
+        return new ScopingProfile(levels, localScrutinyLevel);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof ScopingProfile other && other.packed == this.packed;
+    }
+
+    @Override
+    public int hashCode() {
+        return this.packed;
+    }
+
+    @Override
+    public String toString() {
+        return "ScopingProfile[scrutiny=%d, illuminate=%d, indicate=%d, discovery=%d, command=%d, localScrutiny=%d]".formatted(
+            this.getScrutinyLevel(), this.getIlluminateLevel(), this.getIndicateLevel(),
+            this.getDiscoveryLevel(), this.getCommandLevel(), this.getLocalScrutinyLevel()
+        );
+    }
+
+    /**
+     * Caches the profile of the last stack an entity scoped with.
+     * <p>Enchantment levels are only decoded again when the stack, its NBT compound or its enchantment list
+     * are replaced, or when enchantments are added in place. The local scrutiny level is adjusted in place,
+     * so it is re-read on every lookup.</p>
+     */
+    public static final class Cache {
+        private ItemStack stack = ItemStack.EMPTY;
+        @Nullable private NbtCompound nbt;
+        @Nullable private NbtElement enchantments;
+        private int enchantmentCount;
+        private ScopingProfile profile = EMPTY;
+
+        public ScopingProfile get(ItemStack stack) {
+            if (stack.isEmpty()) {
+                return EMPTY;
+            }
+
+            NbtCompound nbt = stack.getNbt();
+            NbtElement enchantments = nbt == null ? null : nbt.get(ItemStack.ENCHANTMENTS_KEY);
+            int enchantmentCount = enchantments instanceof NbtList list ? list.size() : 0;
+
+            if (stack != this.stack || nbt != this.nbt || enchantments != this.enchantments || enchantmentCount != this.enchantmentCount) {
+                this.stack = stack;
+                this.nbt = nbt;
+                this.enchantments = enchantments;
+                this.enchantmentCount = enchantmentCount;
+                this.profile = of(stack);
+            } else {
+                int localScrutinyLevel = ISpyglass.getLocalScrutinyLevel(stack);
+                if (localScrutinyLevel != this.profile.getLocalScrutinyLevel()) {
+                    this.profile = this.profile.withLocalScrutinyLevel(localScrutinyLevel);
+                }
+            }
+
+            return this.profile;
+        }
+    }
+}
@@ -1,20 +1,14 @@
 package com.github.teamfusion.spyglassplus.mixin;
 
-import com.github.teamfusion.spyglassplus.enchantment.SpyglassPlusEnchantments;
-import com.github.teamfusion.spyglassplus.entity.ScopingEntity;
-import com.github.teamfusion.spyglassplus.entity.SpyglassStandEntity;
-import com.github.teamfusion.spyglassplus.util.CommonPlayerLookup;
-import com.github.teamfusion.spyglassplus.world.SpyglassRaycasting;
-import dev.architectury.networking.NetworkManager;
-import io.netty.buffer.Unpooled;
-import net.minecraft.enchantment.EnchantmentHelper;
+import com.github.teamfusion.spyglassplus.entity.DiscoverySubject;
+import com.github.teamfusion.spyglassplus.network.SpyglassPlusNetworking;
+import com.github.teamfusion.spyglassplus.world.CommandAllyIndex;
+import com.github.teamfusion.spyglassplus.world.ScopingSessionManager;
 import net.minecraft.entity.Entity;
-import net.minecraft.entity.mob.MobEntity;
-import net.minecraft.item.ItemStack;
-import net.minecraft.network.PacketByteBuf;
+import net.minecraft.nbt.NbtCompound;
 import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
 import net.minecraft.world.World;
-import org.jetbrains.annotations.Nullable;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.Unique;
@@ -22,92 +16,47 @@
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
-import java.util.Collection;
-import java.util.Collections;
-
-import static com.github.teamfusion.spyglassplus.network.SpyglassPlusNetworking.COMMAND_UPDATE_PACKET_ID;
-import static com.github.teamfusion.spyglassplus.network.SpyglassPlusNetworking.INDICATE_UPDATE_PACKET_ID;
-import static com.github.teamfusion.spyglassplus.network.SpyglassPlusNetworking.isCommandAllyTo;
-
 @Mixin(Entity.class)
 public abstract class EntityMixin {
     @Shadow public World world;
 
-    @Unique private int lastIndicateEntityId = -1;
-
-    /**
-     * Tracks and updates entities this is indicating.
-     */
-    @Inject(method = "tick", at = @At("TAIL"))
-    private void tickIndicate(CallbackInfo ci) {
-        if (this.world.isClient) {
-            return;
-        }
-
-        Entity that = (Entity) (Object) this;
-        if (that instanceof ScopingEntity scoping && !(that instanceof SpyglassStandEntity)) {
-            if (scoping.isScoping()) {
-                ItemStack stack = scoping.getScopingStack();
-                if (stack.hasEnchantments()) {
-                    if (EnchantmentHelper.getLevel(SpyglassPlusEnchantments.INDICATE.get(), stack) > 0) {
-                        Entity entity = SpyglassRaycasting.raycast(that);
-                        this.sendIndicateUpdate(entity, CommonPlayerLookup.tracking(that));
-                    }
-
-                    if (that instanceof ServerPlayerEntity player) {
-                        if (EnchantmentHelper.getLevel(SpyglassPlusEnchantments.COMMAND.get(), stack) > 0) {
-                            Entity entity = SpyglassRaycasting.raycast(player, entityx -> entityx instanceof MobEntity mobEntity && !isCommandAllyTo(player, mobEntity));
-                            this.sendCommandUpdate(entity, player);
-                        }
-                    }
-                }
-            } else {
-                if (this.lastIndicateEntityId != -1) {
-                    this.sendIndicateUpdate(CommonPlayerLookup.tracking(that), -1);
-                }
-            }
-        }
-    }
-
-    @Unique
-    private void sendCommandUpdate(@Nullable Entity entity, ServerPlayerEntity player) {
-        PacketByteBuf buf = new PacketByteBuf(Unpooled.buffer());
-        buf.writeInt(entity == null ? -1 : entity.getId());
-        NetworkManager.sendToPlayer(player, COMMAND_UPDATE_PACKET_ID, buf);
-    }
+    @Shadow public abstract int getId();
 
     /**
-     * Sends indicated entity to new trackers.
+     * Adds this entity to the next indicate snapshot of new trackers, if it is indicated.
      */
     @Inject(method = "onStartedTrackingBy", at = @At("TAIL"))
     private void onOnStartedTrackingBy(ServerPlayerEntity player, CallbackInfo ci) {
-        this.sendIndicateUpdate(Collections.singleton(player), this.lastIndicateEntityId);
+        if (this.isIndicated()) {
+            SpyglassPlusNetworking.INDICATE_SNAPSHOTS.add(player, this.getId());
+        }
     }
 
     /**
-     * Removes indicated entity from old trackers.
+     * Drops this entity from the indicate snapshot of old trackers, and unsubscribes them from this entity's Discovery data.
+     * Clients forget indicated entities as they unload them.
      */
     @Inject(method = "onStoppedTrackingBy", at = @At("TAIL"))
     private void onOnStoppedTrackingBy(ServerPlayerEntity player, CallbackInfo ci) {
-        this.sendIndicateUpdate(Collections.singleton(player), -1);
-    }
+        if (this.isIndicated()) {
+            SpyglassPlusNetworking.INDICATE_SNAPSHOTS.remove(player, this.getId());
+        }
 
-    @Unique
-    private int sendIndicateUpdate(@Nullable Entity entity, Collection<ServerPlayerEntity> tracking) {
-        int id = entity == null ? -1 : entity.getId();
-        if (this.lastIndicateEntityId != id) {
-            this.sendIndicateUpdate(tracking, id);
+        if ((Object) this instanceof DiscoverySubject subject) {
+            subject.removeDiscoverySubscriber(player);
         }
-        return id;
     }
 
-    @Unique
-    private void sendIndicateUpdate(Collection<ServerPlayerEntity> tracking, int id) {
-        PacketByteBuf buf = new PacketByteBuf(Unpooled.buffer());
-        buf.writeInt(this.lastIndicateEntityId);
-        buf.writeInt(id);
-        NetworkManager.sendToPlayers(tracking, INDICATE_UPDATE_PACKET_ID, buf);
+    /**
+     * Re-indexes command allies when a loaded mob's data is replaced.
+     */
+    @Inject(method = "readNbt", at = @At("TAIL"))
+    private void onReadNbt(NbtCompound nbt, CallbackInfo ci) {
+        CommandAllyIndex.onAlliesChanged((Entity) (Object) this);
+    }
 
-        this.lastIndicateEntityId = id;
+    @Unique
+    private boolean isIndicated() {
+        return this.world instanceof ServerWorld serverWorld && ScopingSessionManager.get(serverWorld).isIndicated(this.getId());
     }
 }
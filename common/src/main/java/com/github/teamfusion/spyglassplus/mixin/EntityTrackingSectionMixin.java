@@ -0,0 +1,41 @@
+package com.github.teamfusion.spyglassplus.mixin;
+
+import com.github.teamfusion.spyglassplus.world.EntityTrackingSectionAccess;
+import net.minecraft.world.entity.EntityLike;
+import net.minecraft.world.entity.EntityTrackingSection;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+@Mixin(EntityTrackingSection.class)
+public abstract class EntityTrackingSectionMixin implements EntityTrackingSectionAccess {
+    @Unique private static final AtomicLong REVISIONS = new AtomicLong();
+
+    @Unique private long revision = REVISIONS.incrementAndGet();
+
+    @Inject(method = "add", at = @At("TAIL"))
+    private void onAdd(EntityLike entity, CallbackInfo ci) {
+        this.markChanged();
+    }
+
+    @Inject(method = "remove", at = @At("TAIL"))
+    private void onRemove(EntityLike entity, CallbackInfoReturnable<Boolean> cir) {
+        this.markChanged();
+    }
+
+    @Unique
+    @Override
+    public long getRevision() {
+        return this.revision;
+    }
+
+    @Unique
+    private void markChanged() {
+        this.revision = REVISIONS.incrementAndGet();
+    }
+}
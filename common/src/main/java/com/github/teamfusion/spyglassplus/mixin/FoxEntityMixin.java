@@ -0,0 +1,22 @@
+package com.github.teamfusion.spyglassplus.mixin;
+
+import com.github.teamfusion.spyglassplus.world.CommandAllyIndex;
+import net.minecraft.entity.passive.FoxEntity;
+import org.jetbrains.annotations.Nullable;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+import java.util.UUID;
+
+@Mixin(FoxEntity.class)
+public abstract class FoxEntityMixin {
+    /**
+     * Re-indexes command allies when a fox trusts a player.
+     */
+    @Inject(method = "addTrustedUuid", at = @At("TAIL"))
+    private void onAddTrustedUuid(@Nullable UUID uuid, CallbackInfo ci) {
+        CommandAllyIndex.onAlliesChanged((FoxEntity) (Object) this);
+    }
+}
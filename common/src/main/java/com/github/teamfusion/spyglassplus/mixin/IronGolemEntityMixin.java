@@ -0,0 +1,19 @@
+package com.github.teamfusion.spyglassplus.mixin;
+
+import com.github.teamfusion.spyglassplus.world.CommandAllyIndex;
+import net.minecraft.entity.passive.IronGolemEntity;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+@Mixin(IronGolemEntity.class)
+public abstract class IronGolemEntityMixin {
+    /**
+     * Re-indexes command allies when a golem becomes player-created.
+     */
+    @Inject(method = "setPlayerCreated", at = @At("TAIL"))
+    private void onSetPlayerCreated(boolean playerCreated, CallbackInfo ci) {
+        CommandAllyIndex.onAlliesChanged((IronGolemEntity) (Object) this);
+    }
+}
@@ -1,74 +1,153 @@
 package com.github.teamfusion.spyglassplus.mixin;
 
-import com.github.teamfusion.spyglassplus.enchantment.DiscoveryEnchantment;
+import com.github.teamfusion.spyglassplus.entity.DiscoverySubject;
 import com.github.teamfusion.spyglassplus.entity.ScopingPlayer;
-import com.github.teamfusion.spyglassplus.util.CommonPlayerLookup;
-import dev.architectury.networking.NetworkManager;
-import io.netty.buffer.Unpooled;
+import com.github.teamfusion.spyglassplus.network.SpyglassPlusNetworking;
+import com.github.teamfusion.spyglassplus.network.packet.EffectsUpdatePacket;
+import com.github.teamfusion.spyglassplus.world.ScopingSessionManager;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityType;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.effect.StatusEffect;
 import net.minecraft.entity.effect.StatusEffectInstance;
-import net.minecraft.nbt.NbtCompound;
-import net.minecraft.nbt.NbtList;
-import net.minecraft.network.PacketByteBuf;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.util.Hand;
 import net.minecraft.world.World;
+import org.jetbrains.annotations.Nullable;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
-import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
-import static com.github.teamfusion.spyglassplus.item.ISpyglass.EFFECTS_KEY;
-import static com.github.teamfusion.spyglassplus.network.SpyglassPlusNetworking.EFFECTS_UPDATE_PACKET_ID;
-
 @Mixin(LivingEntity.class)
-public abstract class LivingEntityMixin extends Entity {
+public abstract class LivingEntityMixin extends Entity implements DiscoverySubject {
+    /**
+     * How often, in ticks, effects are resent while unchanged so that durations stay in sync.
+     */
+    @Unique private static final int EFFECTS_RESYNC_INTERVAL = 20;
+
     @Shadow @Final private Map<StatusEffect, StatusEffectInstance> activeStatusEffects;
 
+    /**
+     * Whether the active effects changed since they were last sent.
+     */
+    @Unique private boolean effectsDirty;
+
+    /**
+     * The world time at which effects were last checked for subscribers.
+     */
+    @Unique private long lastEffectsTick = -1L;
+
+    /**
+     * Players looking at this entity with {@link com.github.teamfusion.spyglassplus.enchantment.SpyglassPlusEnchantments#DISCOVERY}.
+     */
+    @Unique private List<ServerPlayerEntity> discoverySubscribers;
+
     private LivingEntityMixin(EntityType<?> type, World world) {
         super(type, world);
     }
 
     /**
-     * Prevents movement input when scoping in spyglass stand.
+     * Starts a scoping session when a player starts using a spyglass.
      */
-    @Inject(method = "isImmobile", at = @At("HEAD"), cancellable = true)
-    private void onIsImmobile(CallbackInfoReturnable<Boolean> cir) {
-        LivingEntity that = (LivingEntity) (Object) this;
-        if (that instanceof ScopingPlayer scopingPlayer && scopingPlayer.hasSpyglassStand()) {
-            cir.setReturnValue(true);
+    @Inject(method = "setCurrentHand", at = @At("TAIL"))
+    private void onSetCurrentHand(Hand hand, CallbackInfo ci) {
+        if ((Object) this instanceof ServerPlayerEntity player) {
+            ScopingSessionManager.startScoping(player);
         }
     }
 
     /**
-     * Sends effects to the client player each tick.
+     * Marks effects for sending when an effect is added.
+     */
+    @Inject(method = "onStatusEffectApplied", at = @At("HEAD"))
+    private void onOnStatusEffectApplied(StatusEffectInstance effect, @Nullable Entity source, CallbackInfo ci) {
+        this.effectsDirty = true;
+    }
+
+    /**
+     * Marks effects for sending when an effect's amplifier, duration or visibility is replaced.
      */
-    @Inject(method = "tickStatusEffects", at = @At("TAIL"))
-    private void onTickStatusEffects(CallbackInfo ci) {
-        if (!this.world.isClient) {
-            NbtCompound nbt = new NbtCompound();
-
-            NbtList nbtEffects = new NbtList();
-            this.activeStatusEffects.values().forEach(effect -> nbtEffects.add(effect.writeNbt(new NbtCompound())));
-            nbt.put(EFFECTS_KEY, nbtEffects);
-
-            PacketByteBuf buf = new PacketByteBuf(Unpooled.buffer());
-            buf.writeInt(this.getId());
-            buf.writeNbt(nbt);
-
-            NetworkManager.sendToPlayers(
-                CommonPlayerLookup.tracking(this)
-                                  .stream()
-                                  .filter(player -> DiscoveryEnchantment.getLevel(player.getActiveItem()) > 0)
-                                  .toList(),
-                EFFECTS_UPDATE_PACKET_ID, buf
-            );
+    @Inject(method = "onStatusEffectUpgraded", at = @At("HEAD"))
+    private void onOnStatusEffectUpgraded(StatusEffectInstance effect, boolean reapplyEffect, @Nullable Entity source, CallbackInfo ci) {
+        this.effectsDirty = true;
+    }
+
+    /**
+     * Marks effects for sending when an effect is removed or expires.
+     */
+    @Inject(method = "onStatusEffectRemoved", at = @At("HEAD"))
+    private void onOnStatusEffectRemoved(StatusEffectInstance effect, CallbackInfo ci) {
+        this.effectsDirty = true;
+    }
+
+    @Unique
+    @Override
+    public void tickDiscoverySubscribers() {
+        long time = this.world.getTime();
+        if (time == this.lastEffectsTick || !this.hasDiscoverySubscribers()) {
+            return;
+        }
+
+        this.lastEffectsTick = time;
+
+        // stagger resyncs across entities so they are not all sent on the same tick
+        boolean resync = !this.activeStatusEffects.isEmpty() && (time + this.getId()) % EFFECTS_RESYNC_INTERVAL == 0;
+        if (!this.effectsDirty && !resync) {
+            return;
         }
+
+        this.effectsDirty = false;
+        this.sendEffects(this.discoverySubscribers);
+    }
+
+    @Unique
+    private void sendEffects(Iterable<ServerPlayerEntity> players) {
+        SpyglassPlusNetworking.sendEffectsUpdate(players, EffectsUpdatePacket.create(this.getId(), this.activeStatusEffects.values()));
+    }
+
+    @Unique
+    @Override
+    public void addDiscoverySubscriber(ServerPlayerEntity player) {
+        if (this.discoverySubscribers == null) {
+            this.discoverySubscribers = new ArrayList<>(1);
+        }
+
+        if (this.discoverySubscribers.isEmpty()) {
+            // the first subscriber is sent a full update below
+            this.effectsDirty = false;
+        }
+
+        if (!this.discoverySubscribers.contains(player)) {
+            this.discoverySubscribers.add(player);
+            this.sendEffects(Collections.singleton(player));
+        }
+    }
+
+    @Unique
+    @Override
+    public void removeDiscoverySubscriber(ServerPlayerEntity player) {
+        if (this.discoverySubscribers != null) {
+            this.discoverySubscribers.remove(player);
+        }
+
+        ScopingPlayer scopingPlayer = ScopingPlayer.cast(player);
+        if (scopingPlayer.getDiscoverySubject() == (Object) this) {
+            scopingPlayer.setDiscoverySubject(null);
+        }
+    }
+
+    @Unique
+    @Override
+    public boolean hasDiscoverySubscribers() {
+        return this.discoverySubscribers != null && !this.discoverySubscribers.isEmpty();
     }
 }
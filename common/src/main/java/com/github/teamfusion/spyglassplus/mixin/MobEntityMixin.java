@@ -0,0 +1,26 @@
+package com.github.teamfusion.spyglassplus.mixin;
+
+import com.github.teamfusion.spyglassplus.tag.SpyglassPlusEntityTypeTags;
+import com.github.teamfusion.spyglassplus.world.CommandAllyIndex;
+import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.util.ActionResult;
+import net.minecraft.util.Hand;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+@Mixin(MobEntity.class)
+public abstract class MobEntityMixin {
+    /**
+     * Re-indexes command allies of NBT-checked mobs after player interaction, which is how most are tamed.
+     */
+    @Inject(method = "interact", at = @At("RETURN"))
+    private void onInteract(PlayerEntity player, Hand hand, CallbackInfoReturnable<ActionResult> cir) {
+        MobEntity that = (MobEntity) (Object) this;
+        if (cir.getReturnValue().isAccepted() && that.getType().isIn(SpyglassPlusEntityTypeTags.CHECKS_NBT_COMMAND)) {
+            CommandAllyIndex.onAlliesChanged(that);
+        }
+    }
+}
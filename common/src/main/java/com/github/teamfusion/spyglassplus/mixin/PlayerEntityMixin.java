@@ -3,12 +3,14 @@
 import com.github.teamfusion.spyglassplus.entity.ScopingPlayer;
 import com.github.teamfusion.spyglassplus.entity.SpyglassStandEntity;
 import com.github.teamfusion.spyglassplus.item.ISpyglass;
+import com.github.teamfusion.spyglassplus.item.ScopingProfile;
 import com.github.teamfusion.spyglassplus.tag.SpyglassPlusItemTags;
 import net.minecraft.entity.EntityType;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
 import net.minecraft.world.World;
+import org.jetbrains.annotations.Nullable;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.Unique;
@@ -16,14 +18,19 @@
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
-import java.util.Optional;
-
-@SuppressWarnings("OptionalUsedAsFieldOrParameterType")
 @Mixin(PlayerEntity.class)
 public abstract class PlayerEntityMixin extends LivingEntity implements ScopingPlayer {
     @Shadow public abstract boolean isUsingSpyglass();
 
-    @Unique private Optional<Integer> spyglassStand = Optional.empty();
+    @Unique private int spyglassStand = NO_SPYGLASS_STAND;
+
+    /**
+     * The last resolved entity of {@link #spyglassStand}, checked before use as the stand may be removed or replaced.
+     */
+    @Unique @Nullable private SpyglassStandEntity spyglassStandEntity;
+    @Unique private LivingEntity discoverySubject;
+    @Unique private final ScopingProfile.Cache scopingProfileCache = new ScopingProfile.Cache();
+    @Unique private int lastCommandSequence;
 
     private PlayerEntityMixin(EntityType<? extends LivingEntity> entityType, World world) {
         super(entityType, world);
@@ -31,45 +38,95 @@ private PlayerEntityMixin(EntityType<? extends LivingEntity> entityType, World w
 
     @Unique
     @Override
-    public void setSpyglassStand(Integer id) {
-        this.spyglassStand = Optional.ofNullable(id);
+    public void setSpyglassStand(int id) {
+        this.spyglassStand = id;
+        this.spyglassStandEntity = null;
     }
 
     @Unique
     @Override
-    public void setSpyglassStandEntity(SpyglassStandEntity entity) {
-        this.spyglassStand = Optional.of(entity).map(SpyglassStandEntity::getId);
+    public void setSpyglassStandEntity(@Nullable SpyglassStandEntity entity) {
+        this.spyglassStand = entity == null ? NO_SPYGLASS_STAND : entity.getId();
+        this.spyglassStandEntity = entity;
     }
 
     @Unique
     @Override
     public boolean hasSpyglassStand() {
-        return this.spyglassStand.isPresent();
+        return this.spyglassStand != NO_SPYGLASS_STAND;
     }
 
     @Unique
     @Override
-    public Optional<Integer> getSpyglassStand() {
+    public int getSpyglassStand() {
         return this.spyglassStand;
     }
 
     @Unique
     @Override
-    public Optional<SpyglassStandEntity> getSpyglassStandEntity() {
-        return this.getSpyglassStand()
-                   .map(this.world::getEntityById)
-                   .filter(SpyglassStandEntity.class::isInstance)
-                   .map(SpyglassStandEntity.class::cast);
+    @Nullable
+    public SpyglassStandEntity getSpyglassStandEntityOrNull() {
+        if (this.spyglassStand == NO_SPYGLASS_STAND) {
+            return null;
+        }
+
+        SpyglassStandEntity entity = this.spyglassStandEntity;
+        if (entity == null || entity.isRemoved() || entity.getId() != this.spyglassStand || entity.world != this.world) {
+            entity = this.world.getEntityById(this.spyglassStand) instanceof SpyglassStandEntity stand ? stand : null;
+            this.spyglassStandEntity = entity;
+        }
+
+        return entity;
+    }
+
+    @Unique
+    @Override
+    public LivingEntity getDiscoverySubject() {
+        return this.discoverySubject;
+    }
+
+    @Unique
+    @Override
+    public void setDiscoverySubject(@Nullable LivingEntity entity) {
+        this.discoverySubject = entity;
+    }
+
+    @Unique
+    @Override
+    public boolean acceptCommandSequence(int sequence) {
+        // compared by difference so that the sequence can wrap around
+        if (sequence - this.lastCommandSequence <= 0) {
+            return false;
+        }
+
+        this.lastCommandSequence = sequence;
+        return true;
     }
 
     @Unique
     @Override
     public ItemStack getScopingStack() {
-        return this.getSpyglassStandEntity()
-                   .map(SpyglassStandEntity::getScopingStack)
-                   .or(() -> Optional.ofNullable(this.isUsingItem() ? this.getActiveItem() : null))
-                   .filter(stack -> stack.getItem() instanceof ISpyglass)
-                   .orElse(ItemStack.EMPTY);
+        ItemStack stack = null;
+        SpyglassStandEntity spyglassStand = this.getSpyglassStandEntityOrNull();
+        if (spyglassStand != null) {
+            stack = spyglassStand.getScopingStack();
+        }
+
+        if (stack == null) {
+            if (!this.isUsingItem()) {
+                return ItemStack.EMPTY;
+            }
+
+            stack = this.getActiveItem();
+        }
+
+        return stack.getItem() instanceof ISpyglass ? stack : ItemStack.EMPTY;
+    }
+
+    @Unique
+    @Override
+    public ScopingProfile getScopingProfile() {
+        return this.scopingProfileCache.get(this.getScopingStack());
     }
 
     @Unique
@@ -83,8 +140,23 @@ public boolean isScoping() {
      */
     @Inject(method = "isUsingSpyglass", at = @At("RETURN"), cancellable = true)
     private void onIsUsingSpyglass(CallbackInfoReturnable<Boolean> cir) {
+        // most players are neither in a stand nor using an item
+        if (!this.hasSpyglassStand() && !this.isUsingItem()) {
+            return;
+        }
+
         if (!cir.getReturnValueZ() && !this.getScopingStack().isEmpty()) {
             cir.setReturnValue(true);
         }
     }
+
+    /**
+     * Prevents movement input when scoping in spyglass stand.
+     */
+    @Inject(method = "isImmobile", at = @At("HEAD"), cancellable = true)
+    private void onIsImmobile(CallbackInfoReturnable<Boolean> cir) {
+        if (this.hasSpyglassStand()) {
+            cir.setReturnValue(true);
+        }
+    }
 }
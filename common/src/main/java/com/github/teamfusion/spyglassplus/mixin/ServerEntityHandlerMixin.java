@@ -0,0 +1,33 @@
+package com.github.teamfusion.spyglassplus.mixin;
+
+import com.github.teamfusion.spyglassplus.world.CommandAllyIndex;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.server.world.ServerWorld;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+@Mixin(targets = "net/minecraft/server/world/ServerWorld$ServerEntityHandler")
+public abstract class ServerEntityHandlerMixin {
+    /**
+     * Indexes a mob's command allies when it is loaded.
+     */
+    @Inject(method = "startTracking(Lnet/minecraft/entity/Entity;)V", at = @At("TAIL"))
+    private void onStartTracking(Entity entity, CallbackInfo ci) {
+        if (entity instanceof MobEntity mobEntity && entity.world instanceof ServerWorld serverWorld) {
+            CommandAllyIndex.get(serverWorld).update(mobEntity);
+        }
+    }
+
+    /**
+     * Removes a mob from the command ally index when it is unloaded.
+     */
+    @Inject(method = "stopTracking(Lnet/minecraft/entity/Entity;)V", at = @At("TAIL"))
+    private void onStopTracking(Entity entity, CallbackInfo ci) {
+        if (entity instanceof MobEntity && entity.world instanceof ServerWorld serverWorld) {
+            CommandAllyIndex.get(serverWorld).remove(entity);
+        }
+    }
+}
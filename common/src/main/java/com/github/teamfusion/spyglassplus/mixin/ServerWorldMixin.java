@@ -0,0 +1,32 @@
+package com.github.teamfusion.spyglassplus.mixin;
+
+import com.github.teamfusion.spyglassplus.world.CommandAllyIndex;
+import com.github.teamfusion.spyglassplus.world.CommandDispatchQueue;
+import com.github.teamfusion.spyglassplus.world.ScopingSessionManager;
+import com.github.teamfusion.spyglassplus.world.ServerWorldCommandAccess;
+import com.github.teamfusion.spyglassplus.world.ServerWorldScopingAccess;
+import net.minecraft.server.world.ServerWorld;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+
+@Mixin(ServerWorld.class)
+public abstract class ServerWorldMixin implements ServerWorldScopingAccess, ServerWorldCommandAccess {
+    @Unique private final ScopingSessionManager scopingSessionManager = new ScopingSessionManager((ServerWorld) (Object) this);
+    @Unique private final CommandAllyIndex commandAllyIndex = new CommandAllyIndex((ServerWorld) (Object) this);
+    @Unique private final CommandDispatchQueue commandDispatchQueue = new CommandDispatchQueue((ServerWorld) (Object) this);
+
+    @Override
+    public ScopingSessionManager getScopingSessionManager() {
+        return this.scopingSessionManager;
+    }
+
+    @Override
+    public CommandAllyIndex getCommandAllyIndex() {
+        return this.commandAllyIndex;
+    }
+
+    @Override
+    public CommandDispatchQueue getCommandDispatchQueue() {
+        return this.commandDispatchQueue;
+    }
+}
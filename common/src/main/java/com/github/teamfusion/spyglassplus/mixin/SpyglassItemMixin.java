@@ -1,8 +1,30 @@
 package com.github.teamfusion.spyglassplus.mixin;
 
 import com.github.teamfusion.spyglassplus.item.ISpyglass;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
 import net.minecraft.item.SpyglassItem;
 import org.spongepowered.asm.mixin.Mixin;
 
 @Mixin(SpyglassItem.class)
-public class SpyglassItemMixin implements ISpyglass {}
+public abstract class SpyglassItemMixin extends Item implements ISpyglass {
+    private SpyglassItemMixin(Settings settings) {
+        super(settings);
+    }
+
+    /**
+     * Makes all spyglasses enchantable, overriding rather than injecting into {@link Item} so that other items are unaffected.
+     */
+    @Override
+    public boolean isEnchantable(ItemStack stack) {
+        return this.isSpyglassEnchantable(stack);
+    }
+
+    /**
+     * Fix spyglass enchantability.
+     */
+    @Override
+    public int getEnchantability() {
+        return this.getSpyglassEnchantability();
+    }
+}
@@ -0,0 +1,22 @@
+package com.github.teamfusion.spyglassplus.mixin;
+
+import com.github.teamfusion.spyglassplus.world.CommandAllyIndex;
+import net.minecraft.entity.passive.TameableEntity;
+import org.jetbrains.annotations.Nullable;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+import java.util.UUID;
+
+@Mixin(TameableEntity.class)
+public abstract class TameableEntityMixin {
+    /**
+     * Re-indexes command allies when tamed or untamed.
+     */
+    @Inject(method = "setOwnerUuid", at = @At("TAIL"))
+    private void onSetOwnerUuid(@Nullable UUID uuid, CallbackInfo ci) {
+        CommandAllyIndex.onAlliesChanged((TameableEntity) (Object) this);
+    }
+}
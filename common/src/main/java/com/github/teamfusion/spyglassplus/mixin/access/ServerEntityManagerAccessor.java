@@ -0,0 +1,11 @@
+package com.github.teamfusion.spyglassplus.mixin.access;
+
+import net.minecraft.server.world.ServerEntityManager;
+import net.minecraft.world.entity.SectionedEntityCache;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+@Mixin(ServerEntityManager.class)
+public interface ServerEntityManagerAccessor {
+    @Accessor SectionedEntityCache<?> getCache();
+}
@@ -0,0 +1,22 @@
+package com.github.teamfusion.spyglassplus.mixin.client;
+
+import com.github.teamfusion.spyglassplus.client.SpyglassPlusClient;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.entity.Entity;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+@Environment(EnvType.CLIENT)
+@Mixin(targets = "net/minecraft/client/world/ClientWorld$ClientEntityHandler")
+public abstract class ClientEntityHandlerMixin {
+    /**
+     * Forgets whether an entity was indicated when it is unloaded.
+     */
+    @Inject(method = "stopTracking(Lnet/minecraft/entity/Entity;)V", at = @At("TAIL"))
+    private void onStopTracking(Entity entity, CallbackInfo ci) {
+        SpyglassPlusClient.INDICATE_TARGET_MANAGER.setIndicated(entity.getId(), false);
+    }
+}
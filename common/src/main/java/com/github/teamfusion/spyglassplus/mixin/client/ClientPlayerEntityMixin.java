@@ -31,12 +31,11 @@ private ClientPlayerEntityMixin(ClientWorld world, GameProfile profile) {
      */
     @Inject(method = "tickMovement", at = @At("HEAD"))
     private void onTickMovement(CallbackInfo ci) {
-        this.getSpyglassStandEntity().ifPresent(entity -> {
-            if (!entity.isUser(this)) {
-                this.setSpyglassStand(null);
-                entity.stopUsingSpyglassClient(this);
-            }
-        });
+        SpyglassStandEntity entity = this.getSpyglassStandEntityOrNull();
+        if (entity != null && !entity.isUser(this)) {
+            this.setSpyglassStandEntity(null);
+            entity.stopUsingSpyglassClient(this);
+        }
     }
 
     /**
@@ -1,16 +1,11 @@
 package com.github.teamfusion.spyglassplus.mixin.client;
 
 import com.github.teamfusion.spyglassplus.client.SpyglassPlusClient;
-import com.github.teamfusion.spyglassplus.client.entity.CommandTargetManager;
-import com.github.teamfusion.spyglassplus.client.gui.DiscoveryHudRenderer;
-import com.github.teamfusion.spyglassplus.enchantment.SpyglassPlusEnchantments;
-import com.github.teamfusion.spyglassplus.entity.ScopingEntity;
+import com.github.teamfusion.spyglassplus.client.entity.ScopingFrameState;
+import com.github.teamfusion.spyglassplus.item.ScopingProfile;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
-import net.minecraft.client.MinecraftClient;
-import net.minecraft.enchantment.EnchantmentHelper;
 import net.minecraft.entity.Entity;
-import net.minecraft.item.ItemStack;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.Unique;
@@ -29,33 +24,29 @@ public abstract class EntityMixin {
      */
     @Inject(method = "getTeamColorValue", at = @At("RETURN"), cancellable = true)
     private void onGetTeamColorValue(CallbackInfoReturnable<Integer> cir) {
-        if (this.isGlowing()) {
+        ScopingFrameState state = ScopingFrameState.get();
+        if (!state.scoping() || this.isGlowing()) {
             return;
         }
 
         Entity that = (Entity) (Object) this;
-        MinecraftClient client = MinecraftClient.getInstance();
-        if (client.getCameraEntity() instanceof ScopingEntity scopingEntity && scopingEntity.isScoping()) {
-            ItemStack stack = scopingEntity.getScopingStack();
+        ScopingProfile profile = state.profile();
 
-            if (EnchantmentHelper.getLevel(SpyglassPlusEnchantments.COMMAND.get(), stack) > 0) {
-                CommandTargetManager manager = SpyglassPlusClient.COMMAND_TARGET_MANAGER;
-                int color = 0xDF0A0A;
-                if (manager.getLastTargetedEntity() == that) {
-                    cir.setReturnValue(color);
-                    return;
-                } else if (manager.getEntity() == that) {
-                    cir.setReturnValue(this.multiplyColorByFactor(color, 0.5F));
-                    return;
-                }
+        if (profile.getCommandLevel() > 0) {
+            int color = 0xDF0A0A;
+            if (state.lastCommandedEntity() == that) {
+                cir.setReturnValue(color);
+                return;
+            } else if (state.commandEntity() == that) {
+                cir.setReturnValue(this.multiplyColorByFactor(color, 0.5F));
+                return;
             }
+        }
 
-            if (EnchantmentHelper.getLevel(SpyglassPlusEnchantments.INDICATE.get(), stack) > 0) {
-                Entity targeted = DiscoveryHudRenderer.getInstance().getTargetedEntity();
-                if ((that == null || that != targeted) && !SpyglassPlusClient.INDICATE_TARGET_MANAGER.isIndicated(that)) {
-                    int color = cir.getReturnValueI();
-                    cir.setReturnValue(this.multiplyColorByFactor(color, 0.5F));
-                }
+        if (profile.getIndicateLevel() > 0) {
+            if (that != state.targetedEntity() && !SpyglassPlusClient.INDICATE_TARGET_MANAGER.isIndicated(that)) {
+                int color = cir.getReturnValueI();
+                cir.setReturnValue(this.multiplyColorByFactor(color, 0.5F));
             }
         }
     }
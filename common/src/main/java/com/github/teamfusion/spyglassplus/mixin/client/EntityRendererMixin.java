@@ -1,10 +1,9 @@
 package com.github.teamfusion.spyglassplus.mixin.client;
 
-import com.github.teamfusion.spyglassplus.entity.ScopingPlayer;
+import com.github.teamfusion.spyglassplus.client.entity.ScopingFrameState;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.minecraft.client.MinecraftClient;
-import net.minecraft.client.network.ClientPlayerEntity;
 import net.minecraft.client.render.Frustum;
 import net.minecraft.client.render.entity.EntityRenderer;
 import net.minecraft.entity.Entity;
@@ -21,13 +20,9 @@
      */
     @Inject(method = "shouldRender", at = @At("HEAD"), cancellable = true)
     private void onShouldRender(T entity, Frustum frustum, double x, double y, double z, CallbackInfoReturnable<Boolean> cir) {
-        MinecraftClient client = MinecraftClient.getInstance();
-        ClientPlayerEntity player = client.player;
-        if (entity == player) {
-            ScopingPlayer scopingPlayer = ScopingPlayer.cast(player);
-            if (scopingPlayer.hasSpyglassStand()) {
-                cir.setReturnValue(!client.options.getPerspective().isFirstPerson());
-            }
+        ScopingFrameState state = ScopingFrameState.get();
+        if (state.inSpyglassStand() && entity == MinecraftClient.getInstance().player) {
+            cir.setReturnValue(!state.firstPerson());
         }
     }
 }
@@ -1,13 +1,13 @@
 package com.github.teamfusion.spyglassplus.mixin.client;
 
+import com.github.teamfusion.spyglassplus.client.SpyglassPlusClient;
+import com.github.teamfusion.spyglassplus.client.entity.ScopingFrameState;
 import com.github.teamfusion.spyglassplus.enchantment.SpyglassPlusEnchantments;
 import com.github.teamfusion.spyglassplus.entity.ScopingEntity;
-import com.github.teamfusion.spyglassplus.item.ISpyglass;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.render.GameRenderer;
-import net.minecraft.item.ItemStack;
 import net.minecraft.item.SpyglassItem;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
@@ -23,6 +23,15 @@ public class GameRendererMixin {
     @Shadow @Final MinecraftClient client;
     @Shadow private float fovMultiplier;
 
+    /**
+     * Updates the entity at the scoping crosshair and captures the {@link ScopingFrameState} before the frame is rendered.
+     */
+    @Inject(method = "render", at = @At("HEAD"))
+    private void onRender(float tickDelta, long startTime, boolean tick, CallbackInfo ci) {
+        SpyglassPlusClient.SCOPING_TARGET_MANAGER.update(tickDelta);
+        ScopingFrameState.update(this.client);
+    }
+
     /**
      * Implements default fovMultiplier for the spyglass stand.
      */
@@ -52,8 +61,7 @@ private void modifyFovMultiplierForScrutiny(CallbackInfo ci) {
         }
 
         if (this.client.getCameraEntity() instanceof ScopingEntity scoping) {
-            ItemStack stack = scoping.getScopingStack();
-            int level = ISpyglass.getLocalScrutinyLevel(stack);
+            int level = scoping.getScopingProfile().getLocalScrutinyLevel();
             if (level > 0) {
                 this.fovMultiplier *= 0.4F / level;
             } else if (level < 0) {
@@ -6,8 +6,6 @@
 import net.fabricmc.api.Environment;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.render.LightmapTextureManager;
-import net.minecraft.enchantment.EnchantmentHelper;
-import net.minecraft.item.ItemStack;
 import net.minecraft.util.Util;
 import net.minecraft.world.dimension.DimensionType;
 import org.spongepowered.asm.mixin.Mixin;
@@ -35,9 +33,8 @@ private static void modifyBrightnessForIlluminate(DimensionType type, int lightL
         }
 
         if (client.getCameraEntity() instanceof ScopingEntity scoping) {
-            ItemStack stack = scoping.getScopingStack();
             long time = Util.getMeasuringTimeMs();
-            if (EnchantmentHelper.getLevel(SpyglassPlusEnchantments.ILLUMINATE.get(), stack) > 0) {
+            if (scoping.getScopingProfile().getIlluminateLevel() > 0) {
                 long diff = time - lastOpenedSpyglassAt;
                 cir.setReturnValue(min(1.0F, max(cir.getReturnValueF(), diff / 1000f)));
             } else {
@@ -35,6 +35,11 @@ public abstract class LivingEntityMixin extends Entity implements LivingEntityCl
 
     @Unique private List<StatusEffectInstance> clientEffects = Collections.emptyList();
 
+    /**
+     * The world time {@link #clientEffects} were received at.
+     */
+    @Unique private long clientEffectsTime;
+
     private LivingEntityMixin(EntityType<?> type, World world) {
         super(type, world);
     }
@@ -49,6 +54,18 @@ public List<StatusEffectInstance> getEffects() {
     @Override
     public void setEffects(List<StatusEffectInstance> effects) {
         this.clientEffects = effects;
+        this.clientEffectsTime = this.world.getTime();
+    }
+
+    @Unique
+    @Override
+    public int getRemainingDuration(StatusEffectInstance effect) {
+        if (effect.isInfinite()) {
+            return effect.getDuration();
+        }
+
+        long elapsed = this.world.getTime() - this.clientEffectsTime;
+        return (int) Math.max(0L, effect.getDuration() - elapsed);
     }
 
     @Unique
@@ -1,6 +1,7 @@
 package com.github.teamfusion.spyglassplus.mixin.client;
 
 import com.github.teamfusion.spyglassplus.entity.ScopingPlayer;
+import com.github.teamfusion.spyglassplus.entity.SpyglassStandEntity;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.minecraft.client.model.ModelPart;
@@ -41,17 +42,16 @@ private LivingEntityRendererMixin(EntityRendererFactory.Context context) {
         )
     )
     private void onAnimateModel(T entity, float yaw, float tickDelta, MatrixStack matrices, VertexConsumerProvider vertices, int light, CallbackInfo ci) {
-        if (entity instanceof ScopingPlayer scoping) {
-            scoping.getSpyglassStandEntity().ifPresent(spyglass -> {
-                if (this.model instanceof BipedEntityModel<?> bipedEntityModel) {
-                    ModelPart head = bipedEntityModel.head;
-                    ModelPart hat = bipedEntityModel.hat;
-                    head.yaw = spyglass.getSpyglassYaw(tickDelta) * DEGREES_TO_RADIANS;
-                    head.pitch = spyglass.getSpyglassPitch(tickDelta) * DEGREES_TO_RADIANS;
-                    hat.yaw = head.yaw;
-                    hat.pitch = head.pitch;
-                }
-            });
+        if (entity instanceof ScopingPlayer scoping && scoping.hasSpyglassStand()) {
+            SpyglassStandEntity spyglass = scoping.getSpyglassStandEntityOrNull();
+            if (spyglass != null && this.model instanceof BipedEntityModel<?> bipedEntityModel) {
+                ModelPart head = bipedEntityModel.head;
+                ModelPart hat = bipedEntityModel.hat;
+                head.yaw = spyglass.getSpyglassYaw(tickDelta) * DEGREES_TO_RADIANS;
+                head.pitch = spyglass.getSpyglassPitch(tickDelta) * DEGREES_TO_RADIANS;
+                hat.yaw = head.yaw;
+                hat.pitch = head.pitch;
+            }
         }
     }
 }
@@ -1,10 +1,10 @@
 package com.github.teamfusion.spyglassplus.mixin.client;
 
 import com.github.teamfusion.spyglassplus.client.SpyglassPlusClient;
-import com.github.teamfusion.spyglassplus.client.entity.CommandTargetManager;
+import com.github.teamfusion.spyglassplus.client.entity.ScopingFrameState;
 import com.github.teamfusion.spyglassplus.enchantment.SpyglassPlusEnchantments;
-import com.github.teamfusion.spyglassplus.entity.ScopingEntity;
 import com.github.teamfusion.spyglassplus.entity.ScopingPlayer;
+import com.github.teamfusion.spyglassplus.item.ScopingProfile;
 import com.github.teamfusion.spyglassplus.mixin.client.access.KeyBindingInvoker;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
@@ -12,9 +12,8 @@
 import net.minecraft.client.gui.screen.Screen;
 import net.minecraft.client.network.ClientPlayerEntity;
 import net.minecraft.client.option.GameOptions;
-import net.minecraft.enchantment.EnchantmentHelper;
+import net.minecraft.client.world.ClientWorld;
 import net.minecraft.entity.Entity;
-import net.minecraft.item.ItemStack;
 import org.jetbrains.annotations.Nullable;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
@@ -31,8 +30,6 @@ public abstract class MinecraftClientMixin {
     @Shadow @Nullable public ClientPlayerEntity player;
     @Shadow @Final public GameOptions options;
 
-    @Shadow @Nullable public abstract Entity getCameraEntity();
-
     /**
      * Cancels attacks when scoping.
      */
@@ -96,30 +93,38 @@ private void onHasOutline(Entity entity, CallbackInfoReturnable<Boolean> cir) {
             return;
         }
 
-        if (this.getCameraEntity() instanceof ScopingEntity scopingEntity && scopingEntity.isScoping()) {
-            if (this.options.getPerspective().isFirstPerson()) {
-                ItemStack stack = scopingEntity.getScopingStack();
+        ScopingFrameState state = ScopingFrameState.get();
+        if (!state.scoping() || !state.firstPerson()) {
+            return;
+        }
 
-                if (EnchantmentHelper.getLevel(SpyglassPlusEnchantments.INDICATE.get(), stack) > 0) {
-                    cir.setReturnValue(true);
-                    return;
-                }
+        ScopingProfile profile = state.profile();
+        if (profile.getIndicateLevel() > 0) {
+            cir.setReturnValue(true);
+            return;
+        }
 
-                if (EnchantmentHelper.getLevel(SpyglassPlusEnchantments.COMMAND.get(), stack) > 0) {
-                    CommandTargetManager manager = SpyglassPlusClient.COMMAND_TARGET_MANAGER;
-                    if (manager.getEntity() == entity || manager.getLastTargetedEntity() == entity) {
-                        cir.setReturnValue(true);
-                    }
-                }
+        if (profile.getCommandLevel() > 0) {
+            if (state.commandEntity() == entity || state.lastCommandedEntity() == entity) {
+                cir.setReturnValue(true);
             }
         }
     }
 
     /**
-     * Resets indicated entities on disconnect.
+     * Resets indicated entities and the {@link ScopingFrameState} on disconnect.
      */
     @Inject(method = "disconnect(Lnet/minecraft/client/gui/screen/Screen;)V", at = @At("HEAD"))
     private void onDisconnect(Screen screen, CallbackInfo ci) {
         SpyglassPlusClient.INDICATE_TARGET_MANAGER.reset();
+        ScopingFrameState.reset();
+    }
+
+    /**
+     * Resets indicated entities when changing worlds, as the old world's entities are not unloaded one by one.
+     */
+    @Inject(method = "joinWorld", at = @At("HEAD"))
+    private void onJoinWorld(ClientWorld world, CallbackInfo ci) {
+        SpyglassPlusClient.INDICATE_TARGET_MANAGER.reset();
     }
 }
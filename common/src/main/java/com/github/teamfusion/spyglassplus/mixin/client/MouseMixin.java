@@ -1,21 +1,18 @@
 package com.github.teamfusion.spyglassplus.mixin.client;
 
-import com.github.teamfusion.spyglassplus.enchantment.SpyglassPlusEnchantments;
 import com.github.teamfusion.spyglassplus.entity.ScopingEntity;
 import com.github.teamfusion.spyglassplus.entity.ScopingPlayer;
 import com.github.teamfusion.spyglassplus.item.ISpyglass;
+import com.github.teamfusion.spyglassplus.item.ScopingProfile;
+import com.github.teamfusion.spyglassplus.network.packet.LocalScrutinyUpdatePacket;
 import dev.architectury.networking.NetworkManager;
-import io.netty.buffer.Unpooled;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.Mouse;
 import net.minecraft.client.network.ClientPlayerEntity;
-import net.minecraft.enchantment.EnchantmentHelper;
 import net.minecraft.entity.Entity;
 import net.minecraft.item.ItemStack;
-import net.minecraft.network.PacketByteBuf;
-import net.minecraft.util.Util;
 import org.lwjgl.glfw.GLFW;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
@@ -62,12 +59,13 @@ private void handleZoomScrolling(CallbackInfo ci) {
             return;
         }
 
-        int level = EnchantmentHelper.getLevel(SpyglassPlusEnchantments.SCRUTINY.get(), stack);
+        ScopingProfile profile = scopingPlayer.getScopingProfile();
+        int level = profile.getScrutinyLevel();
         if (level > 0) {
-            int before = ISpyglass.getLocalScrutinyLevel(stack);
+            int before = profile.getLocalScrutinyLevel();
             int delta = (int) this.eventDeltaWheel;
             if (item.adjustScrutiny(stack, level, delta) != before) {
-                NetworkManager.sendToServer(LOCAL_SCRUTINY_PACKET_ID, Util.make(new PacketByteBuf(Unpooled.buffer()), buf -> buf.writeInt(delta)));
+                NetworkManager.sendToServer(LOCAL_SCRUTINY_PACKET_ID, new LocalScrutinyUpdatePacket(delta).toBuf());
                 player.playSound(item.getAdjustSound(), 1.0F, 1.0F);
                 this.eventDeltaWheel = 0;
             }
@@ -93,16 +91,21 @@ private void resetOnMiddleMouseClick(long window, int button, int action, int mo
                 return;
             }
 
-            ItemStack stack = this.client.getCameraEntity() instanceof ScopingEntity scoping ? scoping.getScopingStack() : ItemStack.EMPTY;
+            if (!(this.client.getCameraEntity() instanceof ScopingEntity scoping)) {
+                return;
+            }
+
+            ItemStack stack = scoping.getScopingStack();
             if (!(stack.getItem() instanceof ISpyglass item)) {
                 return;
             }
 
-            int level = EnchantmentHelper.getLevel(SpyglassPlusEnchantments.SCRUTINY.get(), stack);
+            ScopingProfile profile = scoping.getScopingProfile();
+            int level = profile.getScrutinyLevel();
             if (level > 0) {
-                int before = ISpyglass.getLocalScrutinyLevel(stack);
+                int before = profile.getLocalScrutinyLevel();
                 if (item.adjustScrutiny(stack, level, 0) != before) {
-                    NetworkManager.sendToServer(LOCAL_SCRUTINY_PACKET_ID, Util.make(new PacketByteBuf(Unpooled.buffer()), buf -> buf.writeInt(0)));
+                    NetworkManager.sendToServer(LOCAL_SCRUTINY_PACKET_ID, new LocalScrutinyUpdatePacket(0).toBuf());
                     this.client.player.playSound(item.getResetAdjustSound(), 1.0F, 1.0F);
                 }
 
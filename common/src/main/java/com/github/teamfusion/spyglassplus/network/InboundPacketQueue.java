@@ -0,0 +1,94 @@
+package com.github.teamfusion.spyglassplus.network;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects the Spyglass+ packets each player sends, to be handled once per tick on the server thread.
+ * <p>Receivers may run on the network thread, so they only read their packet and queue it here.
+ * Scrutiny deltas of a tick are applied together in order, and only the last Command trigger is kept.</p>
+ *
+ * @see SpyglassPlusNetworking#registerReceivers()
+ */
+public final class InboundPacketQueue {
+    private final Map<UUID, Inbox> inboxes = new ConcurrentHashMap<>();
+
+    public void enqueueScrutiny(PlayerEntity player, int delta) {
+        while (true) {
+            Inbox inbox = this.inboxes.computeIfAbsent(player.getUuid(), uuid -> new Inbox());
+            synchronized (inbox) {
+                if (!inbox.drained) {
+                    inbox.scrutinyDeltas.add(delta);
+                    return;
+                }
+            }
+        }
+    }
+
+    public void enqueueCommand(PlayerEntity player, boolean target, int sequence) {
+        while (true) {
+            Inbox inbox = this.inboxes.computeIfAbsent(player.getUuid(), uuid -> new Inbox());
+            synchronized (inbox) {
+                if (!inbox.drained) {
+                    inbox.hasCommand = true;
+                    inbox.commandTarget = target;
+                    inbox.commandSequence = sequence;
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Handles every queued packet. Must be called on the server thread.
+     */
+    public void drain(MinecraftServer server) {
+        if (this.inboxes.isEmpty()) {
+            return;
+        }
+
+        for (Iterator<Map.Entry<UUID, Inbox>> iterator = this.inboxes.entrySet().iterator(); iterator.hasNext(); ) {
+            Map.Entry<UUID, Inbox> entry = iterator.next();
+            Inbox inbox = entry.getValue();
+            iterator.remove();
+
+            // packets queued from now on go to a new inbox, handled next tick
+            synchronized (inbox) {
+                inbox.drained = true;
+            }
+
+            ServerPlayerEntity player = server.getPlayerManager().getPlayer(entry.getKey());
+            if (player == null) {
+                continue;
+            }
+
+            if (!inbox.scrutinyDeltas.isEmpty()) {
+                SpyglassPlusNetworking.handleLocalScrutinyUpdate(player, inbox.scrutinyDeltas);
+            }
+
+            if (inbox.hasCommand) {
+                SpyglassPlusNetworking.handleCommandTriggered(player, inbox.commandTarget, inbox.commandSequence);
+            }
+        }
+    }
+
+    public void remove(UUID player) {
+        this.inboxes.remove(player);
+    }
+
+    private static final class Inbox {
+        private final IntList scrutinyDeltas = new IntArrayList(2);
+        private boolean hasCommand;
+        private boolean commandTarget;
+        private int commandSequence;
+        private boolean drained;
+    }
+}
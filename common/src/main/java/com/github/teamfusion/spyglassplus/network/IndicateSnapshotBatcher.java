@@ -0,0 +1,56 @@
+package com.github.teamfusion.spyglassplus.network;
+
+import com.github.teamfusion.spyglassplus.enchantment.SpyglassPlusEnchantments;
+import com.github.teamfusion.spyglassplus.network.packet.IndicateSnapshotPacket;
+import com.github.teamfusion.spyglassplus.world.ScopingSessionManager;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Collects the {@link SpyglassPlusEnchantments#INDICATE indicated} entities each player starts tracking during a tick,
+ * to send them as one {@link IndicateSnapshotPacket} rather than an update per entity.
+ * <p>Logging in, teleporting and changing dimensions start tracking many entities in the same tick.
+ * Only used on the server thread.</p>
+ */
+public final class IndicateSnapshotBatcher {
+    private final Map<ServerPlayerEntity, IntList> snapshots = new LinkedHashMap<>();
+
+    public void add(ServerPlayerEntity player, int entityId) {
+        this.snapshots.computeIfAbsent(player, p -> new IntArrayList(4)).add(entityId);
+    }
+
+    /**
+     * Drops an entity from a player's snapshot, when they stop tracking it in the same tick.
+     */
+    public void remove(ServerPlayerEntity player, int entityId) {
+        IntList entityIds = this.snapshots.get(player);
+        if (entityIds != null) {
+            entityIds.rem(entityId);
+        }
+    }
+
+    /**
+     * Passes every player's snapshot to the {@link PacketBundler}, which must be flushed afterwards.
+     */
+    public void flush(MinecraftServer server) {
+        if (this.snapshots.isEmpty()) {
+            return;
+        }
+
+        this.snapshots.forEach((player, entityIds) -> {
+            // entities may have stopped being indicated later in the tick
+            ScopingSessionManager manager = ScopingSessionManager.get(player.getWorld());
+            entityIds.removeIf(id -> !manager.isIndicated(id));
+
+            if (!entityIds.isEmpty()) {
+                SpyglassPlusNetworking.sendIndicateSnapshot(player, entityIds);
+            }
+        });
+        this.snapshots.clear();
+    }
+}
@@ -0,0 +1,104 @@
+package com.github.teamfusion.spyglassplus.network;
+
+import com.github.teamfusion.spyglassplus.network.packet.SpyglassPlusPacket;
+import com.github.teamfusion.spyglassplus.util.CommonPlayerLookup;
+import com.github.teamfusion.spyglassplus.util.SpyglassPlusMetrics;
+import dev.architectury.networking.NetworkManager;
+import io.netty.buffer.Unpooled;
+import net.minecraft.entity.Entity;
+import net.minecraft.network.PacketByteBuf;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Collects the Spyglass+ messages sent to each player during a tick into one
+ * {@link SpyglassPlusNetworking#BUNDLE_PACKET_ID} packet, sent at the end of the tick.
+ * <p>Each message is written as its type byte followed by its body, and messages are read until the packet ends.
+ * Only used on the server thread.</p>
+ */
+public final class PacketBundler {
+    public static final byte
+        INDICATE_UPDATE = 0,
+        COMMAND_UPDATE = 1,
+        COMMAND_TARGETED = 2,
+        EFFECTS_UPDATE = 3,
+        INDICATE_SNAPSHOT = 4;
+
+    /**
+     * The initial capacity of bundle buffers, enough for a tick of indicate and command messages.
+     */
+    private static final int INITIAL_BUNDLE_CAPACITY = 32;
+
+    private final Map<ServerPlayerEntity, PacketByteBuf> bundles = new LinkedHashMap<>();
+
+    /**
+     * Holds a message while it is copied into each recipient's bundle, so it is only written once.
+     * <p>Bundle buffers themselves are not pooled, as the platform networking never releases custom payloads.</p>
+     */
+    private final PacketByteBuf scratch = new PacketByteBuf(Unpooled.buffer());
+
+    private final Consumer<ServerPlayerEntity> appender = this::append;
+
+    public void send(ServerPlayerEntity player, byte type, SpyglassPlusPacket packet) {
+        this.write(type, packet);
+        this.append(player);
+    }
+
+    public void send(Iterable<ServerPlayerEntity> players, byte type, SpyglassPlusPacket packet) {
+        this.write(type, packet);
+        for (ServerPlayerEntity player : players) {
+            this.append(player);
+        }
+    }
+
+    /**
+     * Sends a message to every player tracking an entity, iterating the entity's tracker directly.
+     */
+    public void sendToTracking(Entity entity, byte type, SpyglassPlusPacket packet) {
+        this.write(type, packet);
+        CommonPlayerLookup.forEachTracking(entity, this.appender);
+    }
+
+    private void write(byte type, SpyglassPlusPacket packet) {
+        this.scratch.clear();
+        this.scratch.writeByte(type);
+        packet.write(this.scratch);
+    }
+
+    /**
+     * Copies the message in {@link #scratch} into a player's bundle.
+     */
+    private void append(ServerPlayerEntity player) {
+        int length = this.scratch.readableBytes();
+        PacketByteBuf bundle = this.bundles.get(player);
+        if (bundle == null) {
+            bundle = new PacketByteBuf(Unpooled.buffer(Math.max(length, INITIAL_BUNDLE_CAPACITY)));
+            this.bundles.put(player, bundle);
+        }
+
+        bundle.writeBytes(this.scratch, 0, length);
+        SpyglassPlusMetrics.BUNDLED_MESSAGES.increment();
+    }
+
+    /**
+     * Sends every player's bundle for this tick.
+     */
+    public void flush(MinecraftServer server) {
+        if (this.bundles.isEmpty()) {
+            return;
+        }
+
+        this.bundles.forEach((player, buf) -> {
+            if (!player.isDisconnected()) {
+                SpyglassPlusMetrics.BUNDLES_SENT.increment();
+                SpyglassPlusMetrics.BUNDLE_BYTES.add(buf.readableBytes());
+                NetworkManager.sendToPlayer(player, SpyglassPlusNetworking.BUNDLE_PACKET_ID, buf);
+            }
+        });
+        this.bundles.clear();
+    }
+}
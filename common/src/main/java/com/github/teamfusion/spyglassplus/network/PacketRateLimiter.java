@@ -0,0 +1,96 @@
+package com.github.teamfusion.spyglassplus.network;
+
+import com.github.teamfusion.spyglassplus.util.SpyglassPlusMetrics;
+import dev.architectury.networking.NetworkManager.NetworkReceiver;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.GameRules;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Limits how often each player may send a packet, with a token bucket per player.
+ * <p>Buckets hold up to one second of packets and refill at the rate set by a game rule,
+ * so that short bursts are allowed but sustained floods are dropped before they are handled.</p>
+ * <p>Packets are admitted on the netty thread, so the game rule is only read on the server thread
+ * by {@link #update(MinecraftServer)} and published to it through a volatile field.</p>
+ */
+public final class PacketRateLimiter {
+    private static final double NANOS_PER_SECOND = 1.0E9D;
+
+    private final GameRules.Key<GameRules.IntRule> rateRule;
+    private final SpyglassPlusMetrics.Counter rejected;
+    private final Map<UUID, Bucket> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * The packets allowed per second, which is also the bucket size, as of the last server tick.
+     */
+    private volatile int rate = 1;
+
+    /**
+     * @param rateRule the game rule setting the packets allowed per second
+     * @param rejected the counter of dropped packets
+     */
+    public PacketRateLimiter(GameRules.Key<GameRules.IntRule> rateRule, SpyglassPlusMetrics.Counter rejected) {
+        this.rateRule = rateRule;
+        this.rejected = rejected;
+    }
+
+    /**
+     * Wraps a receiver so that it only receives admitted packets.
+     */
+    public NetworkReceiver limit(NetworkReceiver receiver) {
+        return (buf, context) -> {
+            if (this.tryAcquire(context.getPlayer())) {
+                receiver.receive(buf, context);
+            } else {
+                this.rejected.increment();
+            }
+        };
+    }
+
+    /**
+     * Snapshots the game rule at the start of a server tick.
+     */
+    public void update(MinecraftServer server) {
+        this.rate = server.getGameRules().getInt(this.rateRule);
+    }
+
+    /**
+     * @return whether a player may send another packet now
+     */
+    public boolean tryAcquire(PlayerEntity player) {
+        return this.buckets.computeIfAbsent(player.getUuid(), uuid -> new Bucket()).tryAcquire(this.rate, System.nanoTime());
+    }
+
+    /**
+     * Forgets a player's bucket, when they leave.
+     */
+    public void remove(UUID player) {
+        this.buckets.remove(player);
+    }
+
+    private static final class Bucket {
+        private double tokens = -1.0D;
+        private long lastRefill;
+
+        private synchronized boolean tryAcquire(int rate, long now) {
+            if (this.tokens < 0.0D) {
+                // start full
+                this.tokens = rate;
+            } else {
+                this.tokens = Math.min(rate, this.tokens + (now - this.lastRefill) * rate / NANOS_PER_SECOND);
+            }
+
+            this.lastRefill = now;
+            if (this.tokens >= 1.0D) {
+                this.tokens--;
+                return true;
+            }
+
+            return false;
+        }
+    }
+}
@@ -4,24 +4,35 @@
 import com.github.teamfusion.spyglassplus.enchantment.SpyglassPlusEnchantments;
 import com.github.teamfusion.spyglassplus.entity.ScopingPlayer;
 import com.github.teamfusion.spyglassplus.item.ISpyglass;
-import com.github.teamfusion.spyglassplus.mixin.access.FoxEntityInvoker;
-import com.github.teamfusion.spyglassplus.tag.SpyglassPlusEntityTypeTags;
+import com.github.teamfusion.spyglassplus.network.packet.CommandTargetedPacket;
+import com.github.teamfusion.spyglassplus.network.packet.CommandTriggeredPacket;
+import com.github.teamfusion.spyglassplus.network.packet.CommandUpdatePacket;
+import com.github.teamfusion.spyglassplus.network.packet.EffectsUpdatePacket;
+import com.github.teamfusion.spyglassplus.network.packet.IndicateSnapshotPacket;
+import com.github.teamfusion.spyglassplus.network.packet.IndicateUpdatePacket;
+import com.github.teamfusion.spyglassplus.network.packet.LocalScrutinyUpdatePacket;
+import com.github.teamfusion.spyglassplus.util.SpyglassPlusMetrics;
+import com.github.teamfusion.spyglassplus.world.CommandAllyIndex;
+import com.github.teamfusion.spyglassplus.world.CommandDispatchQueue;
+import com.github.teamfusion.spyglassplus.world.ScopingRaycastResult;
+import com.github.teamfusion.spyglassplus.world.ScopingSession;
+import com.github.teamfusion.spyglassplus.world.ScopingSessionManager;
+import com.github.teamfusion.spyglassplus.world.SpyglassPlusGameRules;
 import com.github.teamfusion.spyglassplus.world.SpyglassRaycasting;
+import dev.architectury.event.events.common.PlayerEvent;
+import dev.architectury.event.events.common.TickEvent;
 import dev.architectury.networking.NetworkManager;
 import dev.architectury.networking.NetworkManager.PacketContext;
 import dev.architectury.networking.NetworkManager.Side;
-import io.netty.buffer.Unpooled;
-import net.minecraft.enchantment.EnchantmentHelper;
+import it.unimi.dsi.fastutil.ints.IntList;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.mob.MobEntity;
-import net.minecraft.entity.passive.FoxEntity;
-import net.minecraft.entity.passive.IronGolemEntity;
-import net.minecraft.entity.passive.TameableEntity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NbtCompound;
 import net.minecraft.network.PacketByteBuf;
 import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Box;
@@ -37,107 +48,166 @@ public interface SpyglassPlusNetworking {
     Identifier
         LOCAL_SCRUTINY_PACKET_ID = new Identifier(SpyglassPlus.MOD_ID, "update_local_scrutiny"),
         COMMAND_TRIGGERED_PACKET_ID = new Identifier(SpyglassPlus.MOD_ID, "command_triggered"),
-        EFFECTS_UPDATE_PACKET_ID = new Identifier(SpyglassPlus.MOD_ID, "update_active_effects"),
-        INDICATE_UPDATE_PACKET_ID = new Identifier(SpyglassPlus.MOD_ID, "indicate_update"),
-        COMMAND_UPDATE_PACKET_ID = new Identifier(SpyglassPlus.MOD_ID, "command_update"),
-        COMMAND_TARGETED_PACKET_ID = new Identifier(SpyglassPlus.MOD_ID, "command_targeted");
+        BUNDLE_PACKET_ID = new Identifier(SpyglassPlus.MOD_ID, "bundle");
+
+    PacketRateLimiter
+        LOCAL_SCRUTINY_LIMITER = new PacketRateLimiter(SpyglassPlusGameRules.LOCAL_SCRUTINY_PACKET_RATE, SpyglassPlusMetrics.LOCAL_SCRUTINY_PACKETS_REJECTED),
+        COMMAND_TRIGGERED_LIMITER = new PacketRateLimiter(SpyglassPlusGameRules.COMMAND_PACKET_RATE, SpyglassPlusMetrics.COMMAND_PACKETS_REJECTED);
+
+    InboundPacketQueue INBOUND_QUEUE = new InboundPacketQueue();
+    PacketBundler BUNDLER = new PacketBundler();
+    IndicateSnapshotBatcher INDICATE_SNAPSHOTS = new IndicateSnapshotBatcher();
 
     static void registerReceivers() {
-        NetworkManager.registerReceiver(Side.C2S, LOCAL_SCRUTINY_PACKET_ID, SpyglassPlusNetworking::onLocalScrutinyUpdate);
-        NetworkManager.registerReceiver(Side.C2S, COMMAND_TRIGGERED_PACKET_ID, SpyglassPlusNetworking::onCommandTriggered);
+        NetworkManager.registerReceiver(Side.C2S, LOCAL_SCRUTINY_PACKET_ID, LOCAL_SCRUTINY_LIMITER.limit(SpyglassPlusNetworking::onLocalScrutinyUpdate));
+        NetworkManager.registerReceiver(Side.C2S, COMMAND_TRIGGERED_PACKET_ID, COMMAND_TRIGGERED_LIMITER.limit(SpyglassPlusNetworking::onCommandTriggered));
+
+        TickEvent.SERVER_PRE.register(LOCAL_SCRUTINY_LIMITER::update);
+        TickEvent.SERVER_PRE.register(COMMAND_TRIGGERED_LIMITER::update);
+        TickEvent.SERVER_PRE.register(INBOUND_QUEUE::drain);
+        TickEvent.SERVER_POST.register(INDICATE_SNAPSHOTS::flush);
+        TickEvent.SERVER_POST.register(BUNDLER::flush);
+
+        PlayerEvent.PLAYER_QUIT.register(player -> {
+            LOCAL_SCRUTINY_LIMITER.remove(player.getUuid());
+            COMMAND_TRIGGERED_LIMITER.remove(player.getUuid());
+            INBOUND_QUEUE.remove(player.getUuid());
+        });
     }
 
     /**
-     * Receives a local scrutiny update from the client and updates the server.
+     * Receives a local scrutiny update from the client, to be applied on the next tick.
      */
     static void onLocalScrutinyUpdate(PacketByteBuf buf, PacketContext context) {
-        PlayerEntity player = context.getPlayer();
+        LocalScrutinyUpdatePacket packet = LocalScrutinyUpdatePacket.read(buf);
+        INBOUND_QUEUE.enqueueScrutiny(context.getPlayer(), packet.delta());
+    }
+
+    /**
+     * Received when a client presses a key for {@link SpyglassPlusEnchantments#COMMAND}, to be handled on the next tick.
+     */
+    static void onCommandTriggered(PacketByteBuf buf, PacketContext context) {
+        CommandTriggeredPacket packet = CommandTriggeredPacket.read(buf);
+        INBOUND_QUEUE.enqueueCommand(context.getPlayer(), packet.target(), packet.sequence());
+    }
+
+    /**
+     * Applies a tick's local scrutiny updates from a client.
+     */
+    static void handleLocalScrutinyUpdate(ServerPlayerEntity player, IntList deltas) {
         ScopingPlayer scopingPlayer = ScopingPlayer.cast(player);
         if (scopingPlayer.isScoping()) {
             ItemStack stack = scopingPlayer.getScopingStack();
             if (stack.getItem() instanceof ISpyglass item) {
-                int level = EnchantmentHelper.getLevel(SpyglassPlusEnchantments.SCRUTINY.get(), stack);
+                int level = scopingPlayer.getScopingProfile().getScrutinyLevel();
                 if (level > 0) {
-                    int delta = buf.readInt();
-                    item.adjustScrutiny(stack, level, delta);
+                    item.adjustScrutiny(stack, level, deltas);
                 }
             }
         }
     }
 
     /**
-     * Received when a client triggers {@link SpyglassPlusEnchantments#COMMAND}.
+     * Handles the last Command trigger of a tick from a client.
+     * <p>Triggers carry a sequence number, so duplicates and reordered triggers are dropped. Commanding
+     * the target that allies are still being dispatched to reuses that order rather than scanning again.</p>
      */
-    static void onCommandTriggered(PacketByteBuf buf, PacketContext context) {
-        boolean target = buf.readBoolean();
-
-        PlayerEntity player = context.getPlayer();
+    static void handleCommandTriggered(ServerPlayerEntity player, boolean target, int sequence) {
         ScopingPlayer scopingPlayer = ScopingPlayer.cast(player);
+        if (!scopingPlayer.acceptCommandSequence(sequence)) {
+            return;
+        }
+
         if (scopingPlayer.isScoping()) {
-            ItemStack stack = scopingPlayer.getScopingStack();
-            if (EnchantmentHelper.getLevel(SpyglassPlusEnchantments.COMMAND.get(), stack) > 0) {
+            if (scopingPlayer.getScopingProfile().getCommandLevel() > 0) {
                 if (target) {
-                    Entity entity = SpyglassRaycasting.raycast(player, e -> e instanceof MobEntity mobEntity && !isCommandAllyTo(player, mobEntity));
-                    if (entity instanceof MobEntity mobEntity) {
+                    Entity entity = getCommandTarget(player);
+                    if (entity instanceof MobEntity mobEntity && !isCommandDispatching(player, mobEntity)) {
                         executeIfCommandAllies(player, mobEntity, player.getBlockPos(), player.getWorld(), entities -> {
-                            entities.forEach(e -> e.setTarget(mobEntity));
-
-                            if (player instanceof ServerPlayerEntity serverPlayer) {
-                                sendCommandTargeted(mobEntity, serverPlayer);
-                            }
+                            dispatchCommand(player, entities, mobEntity);
+                            sendCommandTargeted(mobEntity, player);
                         });
                     }
                 } else {
                     executeIfCommandAllies(player, null, player.getBlockPos(), player.getWorld(), entities -> {
-                        entities.forEach(e -> e.setTarget(null));
-                        if (player instanceof ServerPlayerEntity serverPlayer) {
-                            sendCommandTargeted(null, serverPlayer);
-                        }
+                        dispatchCommand(player, entities, null);
+                        sendCommandTargeted(null, player);
                     });
                 }
             }
         }
     }
 
+    /**
+     * Retrieves the mob a player is commanding allies to target, reusing this tick's raycast of their scoping session.
+     */
+    @Nullable
+    static Entity getCommandTarget(PlayerEntity player) {
+        if (player instanceof ServerPlayerEntity serverPlayer) {
+            ScopingSession session = ScopingSessionManager.getSession(serverPlayer);
+            if (session != null) {
+                Entity target = session.getRaycastResult().commandTarget();
+                return target == null || target.isRemoved() ? null : target;
+            }
+        }
+
+        return SpyglassRaycasting.raycast(player, ScopingRaycastResult.createCommandPredicate(player));
+    }
+
+    /**
+     * Retargets allies, spread over the next ticks by the {@link CommandDispatchQueue} of server worlds.
+     */
+    static void dispatchCommand(PlayerEntity player, List<MobEntity> allies, @Nullable MobEntity target) {
+        if (player.getWorld() instanceof ServerWorld serverWorld) {
+            CommandDispatchQueue.get(serverWorld).enqueue(player, allies, target);
+        } else {
+            allies.forEach(e -> e.setTarget(target));
+        }
+    }
+
+    /**
+     * @return whether allies are still being dispatched to a target for a player
+     */
+    static boolean isCommandDispatching(PlayerEntity player, MobEntity target) {
+        return player.getWorld() instanceof ServerWorld serverWorld && CommandDispatchQueue.get(serverWorld).isDispatching(player.getUuid(), target);
+    }
+
     static void executeIfCommandAllies(PlayerEntity source, @Nullable MobEntity targeted, BlockPos pos, EntityView world, Consumer<List<MobEntity>> entities) {
         Box box = new Box(pos).expand(64.0D);
-        List<MobEntity> nearbyAllies = world.getNonSpectatingEntities(MobEntity.class, box).stream().filter(e -> isCommandAllyTo(source, e)).toList();
+        List<MobEntity> nearbyAllies = world instanceof ServerWorld serverWorld
+            ? CommandAllyIndex.get(serverWorld).getAllies(source.getUuid(), box)
+            : world.getNonSpectatingEntities(MobEntity.class, box).stream().filter(e -> isCommandAllyTo(source, e)).toList();
 
         if (!nearbyAllies.isEmpty() && !nearbyAllies.contains(targeted)) {
             entities.accept(nearbyAllies);
         }
     }
 
+    /**
+     * Checks whether a mob is an ally to a player, looking it up in the {@link CommandAllyIndex} of server worlds.
+     * Client worlds only check synced data, see {@link CommandAllyIndex#isKnownAlly(MobEntity, UUID)}.
+     */
     static boolean isCommandAllyTo(PlayerEntity player, MobEntity entity) {
         if (!entity.isAlive()) {
             return false;
         }
 
-        if (entity instanceof TameableEntity tameable) {
-            if (tameable.isOwner(player)) {
-                return true;
-            }
+        if (entity.world instanceof ServerWorld serverWorld && serverWorld.getEntityById(entity.getId()) == entity) {
+            return CommandAllyIndex.get(serverWorld).isAlly(entity, player.getUuid());
         }
 
-        if (entity instanceof IronGolemEntity golem) {
-            if (golem.isPlayerCreated()) {
-                return true;
-            }
+        UUID uuid = player.getUuid();
+        if (CommandAllyIndex.isKnownAlly(entity, uuid)) {
+            return true;
         }
 
-        if (entity instanceof FoxEntity foxEntity) {
-            List<UUID> trusted = ((FoxEntityInvoker) foxEntity).invokeGetTrustedUuids();
-            if (trusted.contains(player.getUuid())) {
-                return true;
-            }
+        if (entity.world.isClient) {
+            return false;
         }
 
-        if (entity.getType().isIn(SpyglassPlusEntityTypeTags.CHECKS_NBT_COMMAND)) {
-            NbtCompound nbt = new NbtCompound();
-            entity.writeCustomDataToNbt(nbt);
-            UUID uuid = tryGetUuid(nbt, "Owner").orElseGet(() -> tryGetUuid(nbt, "OwnerUUID").orElse(null));
-            //noinspection RedundantIfStatement
-            if (uuid != null && uuid.equals(player.getUuid())) {
+        // mobs not loaded in a server world are read fully
+        for (UUID owner : CommandAllyIndex.collectOwners(entity)) {
+            if (owner.equals(uuid)) {
                 return true;
             }
         }
@@ -150,8 +220,25 @@ static Optional<UUID> tryGetUuid(NbtCompound nbt, String key) {
     }
 
     static void sendCommandTargeted(@Nullable Entity targetedEntity, ServerPlayerEntity player) {
-        PacketByteBuf buf = new PacketByteBuf(Unpooled.buffer());
-        buf.writeInt(targetedEntity == null ? -1 : targetedEntity.getId());
-        NetworkManager.sendToPlayer(player, COMMAND_TARGETED_PACKET_ID, buf);
+        BUNDLER.send(player, PacketBundler.COMMAND_TARGETED, new CommandTargetedPacket(targetedEntity == null ? -1 : targetedEntity.getId()));
+    }
+
+    static void sendCommandUpdate(@Nullable Entity entity, ServerPlayerEntity player) {
+        BUNDLER.send(player, PacketBundler.COMMAND_UPDATE, new CommandUpdatePacket(entity == null ? -1 : entity.getId()));
+    }
+
+    /**
+     * Tells the players tracking an entity whether it is indicated.
+     */
+    static void sendIndicateUpdate(Entity entity, boolean indicated) {
+        BUNDLER.sendToTracking(entity, PacketBundler.INDICATE_UPDATE, new IndicateUpdatePacket(entity.getId(), indicated));
+    }
+
+    static void sendIndicateSnapshot(ServerPlayerEntity player, IntList entityIds) {
+        BUNDLER.send(player, PacketBundler.INDICATE_SNAPSHOT, new IndicateSnapshotPacket(entityIds));
+    }
+
+    static void sendEffectsUpdate(Iterable<ServerPlayerEntity> players, EffectsUpdatePacket packet) {
+        BUNDLER.send(players, PacketBundler.EFFECTS_UPDATE, packet);
     }
 }
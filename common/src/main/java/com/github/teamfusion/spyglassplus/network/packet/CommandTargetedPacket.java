@@ -0,0 +1,23 @@
+package com.github.teamfusion.spyglassplus.network.packet;
+
+import com.github.teamfusion.spyglassplus.enchantment.SpyglassPlusEnchantments;
+import net.minecraft.network.PacketByteBuf;
+
+/**
+ * The entity a client's allies were commanded to target with {@link SpyglassPlusEnchantments#COMMAND}, or -1 if untargeted.
+ */
+public record CommandTargetedPacket(int entityId) implements SpyglassPlusPacket {
+    @Override
+    public void write(PacketByteBuf buf) {
+        SpyglassPlusPacket.writeOptionalId(buf, this.entityId);
+    }
+
+    @Override
+    public int getMaxSize() {
+        return 1 + MAX_VAR_INT_SIZE;
+    }
+
+    public static CommandTargetedPacket read(PacketByteBuf buf) {
+        return new CommandTargetedPacket(SpyglassPlusPacket.readOptionalId(buf));
+    }
+}
@@ -0,0 +1,27 @@
+package com.github.teamfusion.spyglassplus.network.packet;
+
+import com.github.teamfusion.spyglassplus.enchantment.SpyglassPlusEnchantments;
+import com.github.teamfusion.spyglassplus.network.SpyglassPlusNetworking;
+import net.minecraft.network.PacketByteBuf;
+
+/**
+ * A press of a {@link SpyglassPlusEnchantments#COMMAND} key, to target or untarget.
+ *
+ * @see SpyglassPlusNetworking#COMMAND_TRIGGERED_PACKET_ID
+ */
+public record CommandTriggeredPacket(boolean target, int sequence) implements SpyglassPlusPacket {
+    @Override
+    public void write(PacketByteBuf buf) {
+        buf.writeBoolean(this.target);
+        buf.writeVarInt(this.sequence);
+    }
+
+    @Override
+    public int getMaxSize() {
+        return 1 + MAX_VAR_INT_SIZE;
+    }
+
+    public static CommandTriggeredPacket read(PacketByteBuf buf) {
+        return new CommandTriggeredPacket(buf.readBoolean(), buf.readVarInt());
+    }
+}
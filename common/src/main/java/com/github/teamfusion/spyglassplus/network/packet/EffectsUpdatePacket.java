@@ -0,0 +1,90 @@
+package com.github.teamfusion.spyglassplus.network.packet;
+
+import com.github.teamfusion.spyglassplus.enchantment.SpyglassPlusEnchantments;
+import com.github.teamfusion.spyglassplus.network.SpyglassPlusNetworking;
+import net.minecraft.entity.effect.StatusEffect;
+import net.minecraft.entity.effect.StatusEffectInstance;
+import net.minecraft.network.PacketByteBuf;
+import net.minecraft.registry.Registries;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An entity's visible effects for {@link SpyglassPlusEnchantments#DISCOVERY}.
+ * <p>Each effect is written as its raw registry id, duration, amplifier and a flags byte.
+ * Effects that do not show an icon are never displayed, so they are not sent.</p>
+ *
+ * @see SpyglassPlusNetworking#sendEffectsUpdate
+ */
+public record EffectsUpdatePacket(int entityId, List<StatusEffectInstance> effects) implements SpyglassPlusPacket {
+    public static final int
+        AMBIENT_FLAG = 1,
+        SHOW_PARTICLES_FLAG = 1 << 1,
+        SHOW_ICON_FLAG = 1 << 2;
+
+    /**
+     * Creates a packet from an entity's active effects, dropping those without an icon.
+     */
+    public static EffectsUpdatePacket create(int entityId, Collection<StatusEffectInstance> activeEffects) {
+        List<StatusEffectInstance> effects = new ArrayList<>(activeEffects.size());
+        for (StatusEffectInstance effect : activeEffects) {
+            if (effect.shouldShowIcon()) {
+                effects.add(effect);
+            }
+        }
+
+        return new EffectsUpdatePacket(entityId, effects);
+    }
+
+    @Override
+    public void write(PacketByteBuf buf) {
+        buf.writeVarInt(this.entityId);
+        buf.writeVarInt(this.effects.size());
+        for (StatusEffectInstance effect : this.effects) {
+            buf.writeRegistryValue(Registries.STATUS_EFFECT, effect.getEffectType());
+            buf.writeVarInt(effect.getDuration());
+            buf.writeVarInt(effect.getAmplifier());
+            buf.writeByte(getFlags(effect));
+        }
+    }
+
+    @Override
+    public int getMaxSize() {
+        return 2 * MAX_VAR_INT_SIZE + this.effects.size() * (3 * MAX_VAR_INT_SIZE + 1);
+    }
+
+    public static EffectsUpdatePacket read(PacketByteBuf buf) {
+        int entityId = buf.readVarInt();
+        int count = buf.readVarInt();
+
+        List<StatusEffectInstance> effects = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            StatusEffect type = buf.readRegistryValue(Registries.STATUS_EFFECT);
+            int duration = buf.readVarInt();
+            int amplifier = buf.readVarInt();
+            byte flags = buf.readByte();
+
+            // skip effects unknown to this client, still consuming their bytes
+            if (type != null) {
+                effects.add(new StatusEffectInstance(type, duration, amplifier,
+                    (flags & AMBIENT_FLAG) != 0,
+                    (flags & SHOW_PARTICLES_FLAG) != 0,
+                    (flags & SHOW_ICON_FLAG) != 0
+                ));
+            }
+        }
+
+        return new EffectsUpdatePacket(entityId, Collections.unmodifiableList(effects));
+    }
+
+    private static int getFlags(StatusEffectInstance effect) {
+        int flags = 0;
+        if (effect.isAmbient()) flags |= AMBIENT_FLAG;
+        if (effect.shouldShowParticles()) flags |= SHOW_PARTICLES_FLAG;
+        if (effect.shouldShowIcon()) flags |= SHOW_ICON_FLAG;
+        return flags;
+    }
+}
@@ -0,0 +1,34 @@
+package com.github.teamfusion.spyglassplus.network.packet;
+
+import com.github.teamfusion.spyglassplus.enchantment.SpyglassPlusEnchantments;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import net.minecraft.network.PacketByteBuf;
+
+/**
+ * The entities indicated with {@link SpyglassPlusEnchantments#INDICATE} that a player started tracking during a tick.
+ */
+public record IndicateSnapshotPacket(IntList entityIds) implements SpyglassPlusPacket {
+    @Override
+    public void write(PacketByteBuf buf) {
+        buf.writeVarInt(this.entityIds.size());
+        for (int i = 0, size = this.entityIds.size(); i < size; i++) {
+            buf.writeVarInt(this.entityIds.getInt(i));
+        }
+    }
+
+    @Override
+    public int getMaxSize() {
+        return (1 + this.entityIds.size()) * MAX_VAR_INT_SIZE;
+    }
+
+    public static IndicateSnapshotPacket read(PacketByteBuf buf) {
+        int count = buf.readVarInt();
+        IntList entityIds = new IntArrayList(count);
+        for (int i = 0; i < count; i++) {
+            entityIds.add(buf.readVarInt());
+        }
+
+        return new IndicateSnapshotPacket(entityIds);
+    }
+}
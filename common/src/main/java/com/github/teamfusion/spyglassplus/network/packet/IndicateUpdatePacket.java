@@ -0,0 +1,25 @@
+package com.github.teamfusion.spyglassplus.network.packet;
+
+import com.github.teamfusion.spyglassplus.enchantment.SpyglassPlusEnchantments;
+import net.minecraft.network.PacketByteBuf;
+
+/**
+ * Whether an entity is indicated by any scoping player with {@link SpyglassPlusEnchantments#INDICATE}.
+ * Only sent when that changes, or when a player starts or stops tracking an indicated entity.
+ */
+public record IndicateUpdatePacket(int entityId, boolean indicated) implements SpyglassPlusPacket {
+    @Override
+    public void write(PacketByteBuf buf) {
+        buf.writeVarInt(this.entityId);
+        buf.writeBoolean(this.indicated);
+    }
+
+    @Override
+    public int getMaxSize() {
+        return MAX_VAR_INT_SIZE + 1;
+    }
+
+    public static IndicateUpdatePacket read(PacketByteBuf buf) {
+        return new IndicateUpdatePacket(buf.readVarInt(), buf.readBoolean());
+    }
+}
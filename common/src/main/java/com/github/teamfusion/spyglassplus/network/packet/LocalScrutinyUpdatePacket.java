@@ -0,0 +1,25 @@
+package com.github.teamfusion.spyglassplus.network.packet;
+
+import com.github.teamfusion.spyglassplus.network.SpyglassPlusNetworking;
+import net.minecraft.network.PacketByteBuf;
+
+/**
+ * A scroll delta of a client's local scrutiny level, where 0 resets it.
+ *
+ * @see SpyglassPlusNetworking#LOCAL_SCRUTINY_PACKET_ID
+ */
+public record LocalScrutinyUpdatePacket(int delta) implements SpyglassPlusPacket {
+    @Override
+    public void write(PacketByteBuf buf) {
+        SpyglassPlusPacket.writeSignedVarInt(buf, this.delta);
+    }
+
+    @Override
+    public int getMaxSize() {
+        return MAX_VAR_INT_SIZE;
+    }
+
+    public static LocalScrutinyUpdatePacket read(PacketByteBuf buf) {
+        return new LocalScrutinyUpdatePacket(SpyglassPlusPacket.readSignedVarInt(buf));
+    }
+}
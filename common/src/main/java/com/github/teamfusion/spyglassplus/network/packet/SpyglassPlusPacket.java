@@ -0,0 +1,53 @@
+package com.github.teamfusion.spyglassplus.network.packet;
+
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.PacketByteBuf;
+
+/**
+ * A Spyglass+ packet, encoded with VarInts.
+ */
+public interface SpyglassPlusPacket {
+    int MAX_VAR_INT_SIZE = 5;
+
+    void write(PacketByteBuf buf);
+
+    /**
+     * @return an upper bound of the bytes written, to size buffers up front
+     */
+    int getMaxSize();
+
+    /**
+     * Writes this packet into a buffer of its maximum size.
+     */
+    default PacketByteBuf toBuf() {
+        PacketByteBuf buf = new PacketByteBuf(Unpooled.buffer(this.getMaxSize()));
+        this.write(buf);
+        return buf;
+    }
+
+    /**
+     * Writes an entity id that may be absent, as -1, behind a presence flag.
+     */
+    static void writeOptionalId(PacketByteBuf buf, int id) {
+        buf.writeBoolean(id != -1);
+        if (id != -1) {
+            buf.writeVarInt(id);
+        }
+    }
+
+    static int readOptionalId(PacketByteBuf buf) {
+        return buf.readBoolean() ? buf.readVarInt() : -1;
+    }
+
+    /**
+     * Writes a VarInt that is likely to be small but negative, zigzag-encoded so that it stays short.
+     */
+    static void writeSignedVarInt(PacketByteBuf buf, int value) {
+        buf.writeVarInt((value << 1) ^ (value >> 31));
+    }
+
+    static int readSignedVarInt(PacketByteBuf buf) {
+        int value = buf.readVarInt();
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -8,10 +8,13 @@
 import net.minecraft.server.world.ServerChunkManager;
 import net.minecraft.server.world.ThreadedAnvilChunkStorage;
 import net.minecraft.world.chunk.ChunkManager;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
@@ -19,22 +22,63 @@
  */
 public interface CommonPlayerLookup {
     static Collection<ServerPlayerEntity> tracking(Entity entity) {
+        EntityTrackerAccessor tracker = getTracker(entity);
+
+        // return an immutable collection to guard against accidental removals.
+        if (tracker != null) {
+            return tracker.getListeners()
+                          .stream()
+                          .map(EntityTrackingListener::getPlayer)
+                          .collect(Collectors.toUnmodifiableSet());
+        }
+
+        return Collections.emptySet();
+    }
+
+    /**
+     * Visits every player tracking an entity without allocating a collection.
+     */
+    static void forEachTracking(Entity entity, Consumer<ServerPlayerEntity> action) {
+        EntityTrackerAccessor tracker = getTracker(entity);
+        if (tracker != null) {
+            for (EntityTrackingListener listener : tracker.getListeners()) {
+                action.accept(listener.getPlayer());
+            }
+        }
+    }
+
+    /**
+     * @return whether any player tracking an entity matches the predicate
+     */
+    static boolean anyTracking(Entity entity, Predicate<ServerPlayerEntity> predicate) {
+        EntityTrackerAccessor tracker = getTracker(entity);
+        if (tracker != null) {
+            for (EntityTrackingListener listener : tracker.getListeners()) {
+                if (predicate.test(listener.getPlayer())) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * @return whether any player is tracking an entity
+     */
+    static boolean anyTracking(Entity entity) {
+        EntityTrackerAccessor tracker = getTracker(entity);
+        return tracker != null && !tracker.getListeners().isEmpty();
+    }
+
+    @Nullable
+    private static EntityTrackerAccessor getTracker(Entity entity) {
         Objects.requireNonNull(entity, "Entity cannot be null");
         ChunkManager manager = entity.world.getChunkManager();
 
         if (manager instanceof ServerChunkManager) {
             ThreadedAnvilChunkStorage storage = ((ServerChunkManager) manager).threadedAnvilChunkStorage;
-            EntityTrackerAccessor tracker = ((ThreadedAnvilChunkStorageAccessor) storage).getEntityTrackers().get(entity.getId());
-
-            // return an immutable collection to guard against accidental removals.
-            if (tracker != null) {
-                return tracker.getListeners()
-                              .stream()
-                              .map(EntityTrackingListener::getPlayer)
-                              .collect(Collectors.toUnmodifiableSet());
-            }
-
-            return Collections.emptySet();
+            return ((ThreadedAnvilChunkStorageAccessor) storage).getEntityTrackers().get(entity.getId());
         }
 
         throw new IllegalArgumentException("Only supported on server worlds!");
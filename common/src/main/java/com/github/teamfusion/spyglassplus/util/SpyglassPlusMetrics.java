@@ -0,0 +1,114 @@
+package com.github.teamfusion.spyglassplus.util;
+
+import com.github.teamfusion.spyglassplus.command.SpyglassPlusCommand;
+import com.github.teamfusion.spyglassplus.world.CommandDispatchQueue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Counters of work done by Spyglass+, to confirm that optimizations are effective on a live server.
+ *
+ * @see SpyglassPlusCommand
+ */
+public final class SpyglassPlusMetrics {
+    private static final List<Counter> COUNTERS = new ArrayList<>();
+    private static final List<Gauge> GAUGES = new ArrayList<>();
+
+    public static final Counter
+        RAYCAST_CACHE_HITS = register("raycast_cache_hits"),
+        RAYCAST_CACHE_MISSES = register("raycast_cache_misses"),
+        COMMAND_ORDERS_DISPATCHED = register("command_orders_dispatched"),
+        COMMAND_ORDERS_CANCELLED = register("command_orders_cancelled"),
+        COMMAND_ORDERS_STARVED = register("command_orders_starved"),
+        COMMAND_DISPATCH_TICKS = register("command_dispatch_ticks"),
+        COMMAND_DISPATCH_NANOS = register("command_dispatch_nanos"),
+        LOCAL_SCRUTINY_PACKETS_REJECTED = register("local_scrutiny_packets_rejected"),
+        COMMAND_PACKETS_REJECTED = register("command_packets_rejected"),
+        BUNDLED_MESSAGES = register("bundled_messages"),
+        BUNDLES_SENT = register("bundles_sent"),
+        BUNDLE_BYTES = register("bundle_bytes");
+
+    public static final Gauge
+        COMMAND_QUEUE_DEPTH = registerGauge("command_queue_depth", CommandDispatchQueue::getTotalDepth);
+
+    private SpyglassPlusMetrics() {
+    }
+
+    private static Counter register(String name) {
+        Counter counter = new Counter(name);
+        COUNTERS.add(counter);
+        return counter;
+    }
+
+    private static Gauge registerGauge(String name, LongSupplier supplier) {
+        Gauge gauge = new Gauge(name, supplier);
+        GAUGES.add(gauge);
+        return gauge;
+    }
+
+    public static List<Counter> getCounters() {
+        return Collections.unmodifiableList(COUNTERS);
+    }
+
+    public static List<Gauge> getGauges() {
+        return Collections.unmodifiableList(GAUGES);
+    }
+
+    public static void reset() {
+        COUNTERS.forEach(Counter::reset);
+    }
+
+    public static final class Counter {
+        private final String name;
+        private final LongAdder value = new LongAdder();
+
+        private Counter(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return this.name;
+        }
+
+        public void increment() {
+            this.value.increment();
+        }
+
+        public void add(long amount) {
+            this.value.add(amount);
+        }
+
+        public long get() {
+            return this.value.sum();
+        }
+
+        public void reset() {
+            this.value.reset();
+        }
+    }
+
+    /**
+     * A live value, read when metrics are inspected and never reset.
+     */
+    public static final class Gauge {
+        private final String name;
+        private final LongSupplier supplier;
+
+        private Gauge(String name, LongSupplier supplier) {
+            this.name = name;
+            this.supplier = supplier;
+        }
+
+        public String getName() {
+            return this.name;
+        }
+
+        public long get() {
+            return this.supplier.getAsLong();
+        }
+    }
+}
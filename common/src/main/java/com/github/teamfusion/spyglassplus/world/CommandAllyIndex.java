@@ -0,0 +1,197 @@
+package com.github.teamfusion.spyglassplus.world;
+
+import com.github.teamfusion.spyglassplus.enchantment.SpyglassPlusEnchantments;
+import com.github.teamfusion.spyglassplus.mixin.access.FoxEntityInvoker;
+import com.github.teamfusion.spyglassplus.network.SpyglassPlusNetworking;
+import com.github.teamfusion.spyglassplus.tag.SpyglassPlusEntityTypeTags;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.entity.passive.FoxEntity;
+import net.minecraft.entity.passive.IronGolemEntity;
+import net.minecraft.entity.passive.TameableEntity;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.Box;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Indexes the loaded mobs of a {@link ServerWorld} by the players they are allies to, for {@link SpyglassPlusEnchantments#COMMAND}.
+ * <p>A mob is indexed under its tamed owner, its trusted players for foxes, and its {@code Owner} or {@code OwnerUUID}
+ * for {@link SpyglassPlusEntityTypeTags#CHECKS_NBT_COMMAND}, read once whenever the mob is loaded or changed.
+ * Player-created iron golems are allies to everyone.</p>
+ *
+ * @see SpyglassPlusNetworking#isCommandAllyTo
+ */
+public class CommandAllyIndex {
+    private static final UUID[] NO_OWNERS = new UUID[0];
+
+    private final ServerWorld world;
+    private final Map<UUID, IntSet> alliesByOwner = new HashMap<>();
+    private final IntSet universalAllies = new IntOpenHashSet();
+    private final Int2ObjectMap<UUID[]> ownersByAlly = new Int2ObjectOpenHashMap<>();
+
+    public CommandAllyIndex(ServerWorld world) {
+        this.world = world;
+    }
+
+    public static CommandAllyIndex get(ServerWorld world) {
+        return ((ServerWorldCommandAccess) world).getCommandAllyIndex();
+    }
+
+    /**
+     * Re-indexes a mob after its allies may have changed, if it is loaded in a server world.
+     */
+    public static void onAlliesChanged(Entity entity) {
+        if (entity.world instanceof ServerWorld serverWorld && entity instanceof MobEntity mobEntity && serverWorld.getEntityById(entity.getId()) == entity) {
+            get(serverWorld).update(mobEntity);
+        }
+    }
+
+    public void update(MobEntity entity) {
+        this.remove(entity);
+
+        int id = entity.getId();
+        if (entity instanceof IronGolemEntity golem && golem.isPlayerCreated()) {
+            this.universalAllies.add(id);
+        }
+
+        UUID[] owners = collectOwners(entity);
+        if (owners.length > 0) {
+            this.ownersByAlly.put(id, owners);
+            for (UUID owner : owners) {
+                this.alliesByOwner.computeIfAbsent(owner, uuid -> new IntOpenHashSet()).add(id);
+            }
+        }
+    }
+
+    public void remove(Entity entity) {
+        int id = entity.getId();
+        this.universalAllies.remove(id);
+
+        UUID[] owners = this.ownersByAlly.remove(id);
+        if (owners != null) {
+            for (UUID owner : owners) {
+                IntSet allies = this.alliesByOwner.get(owner);
+                if (allies != null && allies.remove(id) && allies.isEmpty()) {
+                    this.alliesByOwner.remove(owner);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return whether a mob is indexed as an ally to a player
+     */
+    public boolean isAlly(MobEntity entity, UUID player) {
+        int id = entity.getId();
+        if (this.universalAllies.contains(id)) {
+            return true;
+        }
+
+        UUID[] owners = this.ownersByAlly.get(id);
+        if (owners != null) {
+            for (UUID owner : owners) {
+                if (owner.equals(player)) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Collects the living allies of a player whose bounding boxes intersect a box.
+     */
+    public List<MobEntity> getAllies(UUID player, Box box) {
+        List<MobEntity> allies = new ArrayList<>();
+        Consumer<MobEntity> collector = entity -> {
+            if (entity.isAlive() && entity.getBoundingBox().intersects(box)) {
+                allies.add(entity);
+            }
+        };
+
+        this.forEachLoaded(this.universalAllies, collector);
+
+        IntSet owned = this.alliesByOwner.get(player);
+        if (owned != null) {
+            this.forEachLoaded(owned, entity -> {
+                // player-created golems were already collected
+                if (!this.universalAllies.contains(entity.getId())) {
+                    collector.accept(entity);
+                }
+            });
+        }
+
+        return allies;
+    }
+
+    private void forEachLoaded(IntSet ids, Consumer<MobEntity> action) {
+        for (IntIterator iterator = ids.iterator(); iterator.hasNext(); ) {
+            if (this.world.getEntityById(iterator.nextInt()) instanceof MobEntity entity) {
+                action.accept(entity);
+            }
+        }
+    }
+
+    /**
+     * Checks whether a mob is an ally to a player from its synced data only, never serializing it.
+     * <p>Owners of {@link SpyglassPlusEntityTypeTags#CHECKS_NBT_COMMAND} mobs are not known this way,
+     * so those mobs are only allies here if they are tamed or trusted.</p>
+     */
+    public static boolean isKnownAlly(MobEntity entity, UUID player) {
+        if (entity instanceof IronGolemEntity golem && golem.isPlayerCreated()) {
+            return true;
+        }
+
+        if (entity instanceof TameableEntity tameable && player.equals(tameable.getOwnerUuid())) {
+            return true;
+        }
+
+        return entity instanceof FoxEntity foxEntity && ((FoxEntityInvoker) foxEntity).invokeGetTrustedUuids().contains(player);
+    }
+
+    /**
+     * Reads the players a mob is an ally to, besides golems' universal alliance.
+     */
+    public static UUID[] collectOwners(MobEntity entity) {
+        List<UUID> owners = new ArrayList<>(2);
+
+        if (entity instanceof TameableEntity tameable) {
+            UUID owner = tameable.getOwnerUuid();
+            if (owner != null) {
+                owners.add(owner);
+            }
+        }
+
+        if (entity instanceof FoxEntity foxEntity) {
+            for (UUID trusted : ((FoxEntityInvoker) foxEntity).invokeGetTrustedUuids()) {
+                if (trusted != null && !owners.contains(trusted)) {
+                    owners.add(trusted);
+                }
+            }
+        }
+
+        if (entity.getType().isIn(SpyglassPlusEntityTypeTags.CHECKS_NBT_COMMAND)) {
+            NbtCompound nbt = new NbtCompound();
+            entity.writeCustomDataToNbt(nbt);
+            UUID owner = SpyglassPlusNetworking.tryGetUuid(nbt, "Owner").orElseGet(() -> SpyglassPlusNetworking.tryGetUuid(nbt, "OwnerUUID").orElse(null));
+            if (owner != null && !owners.contains(owner)) {
+                owners.add(owner);
+            }
+        }
+
+        return owners.isEmpty() ? NO_OWNERS : owners.toArray(NO_OWNERS);
+    }
+}
@@ -0,0 +1,177 @@
+package com.github.teamfusion.spyglassplus.world;
+
+import com.github.teamfusion.spyglassplus.enchantment.SpyglassPlusEnchantments;
+import com.github.teamfusion.spyglassplus.util.SpyglassPlusMetrics;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.world.ServerWorld;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Spreads the retargeting of {@link SpyglassPlusEnchantments#COMMAND} allies over several ticks,
+ * so that large groups of allies do not all start pathfinding in the same tick.
+ * <p>Allies are retargeted nearest first, up to {@link SpyglassPlusGameRules#COMMAND_DISPATCH_BUDGET} per tick.
+ * The budget is shared round-robin between players, one ally at a time, and the turn carries over to the next
+ * tick so that one large order cannot starve the others. A newer command from the same player cancels the rest
+ * of their previous order.</p>
+ */
+public class CommandDispatchQueue {
+    /**
+     * The number of queued allies across all worlds.
+     */
+    private static int totalDepth;
+
+    private final ServerWorld world;
+    private final Map<UUID, Order> orders = new HashMap<>();
+
+    /**
+     * Orders in round-robin turn.
+     */
+    private final Deque<Order> turns = new ArrayDeque<>();
+
+    public CommandDispatchQueue(ServerWorld world) {
+        this.world = world;
+    }
+
+    public static CommandDispatchQueue get(ServerWorld world) {
+        return ((ServerWorldCommandAccess) world).getCommandDispatchQueue();
+    }
+
+    public static int getTotalDepth() {
+        return totalDepth;
+    }
+
+    /**
+     * Forgets the queued allies once a server stops, as an integrated server's worlds are discarded with their queues.
+     */
+    public static void reset(MinecraftServer server) {
+        totalDepth = 0;
+    }
+
+    /**
+     * Dispatches queued orders of a world.
+     */
+    public static void tick(ServerWorld world) {
+        if (totalDepth > 0) {
+            get(world).dispatch();
+        }
+    }
+
+    /**
+     * Queues allies to be retargeted, replacing the commanding player's in-flight order.
+     *
+     * @param target the entity to target, or null to clear targets
+     */
+    public void enqueue(PlayerEntity player, List<MobEntity> allies, @Nullable LivingEntity target) {
+        this.cancel(player.getUuid());
+
+        MobEntity[] sorted = allies.toArray(new MobEntity[0]);
+        Arrays.sort(sorted, Comparator.comparingDouble(player::squaredDistanceTo));
+        Order order = new Order(sorted, target);
+        this.orders.put(player.getUuid(), order);
+        this.turns.addLast(order);
+        totalDepth += sorted.length;
+    }
+
+    /**
+     * Cancels the remainder of a player's order.
+     */
+    public void cancel(UUID player) {
+        Order order = this.orders.remove(player);
+        if (order != null) {
+            cancel(order);
+            this.turns.remove(order);
+        }
+    }
+
+    private static void cancel(Order order) {
+        int remaining = order.remaining();
+        totalDepth -= remaining;
+        SpyglassPlusMetrics.COMMAND_ORDERS_CANCELLED.add(remaining);
+        // releases the cancelled allies, as the order may still be referenced until its turn is removed
+        Arrays.fill(order.allies, order.index, order.allies.length, null);
+        order.index = order.allies.length;
+    }
+
+    /**
+     * @return whether a player's order to target an entity is still in flight
+     */
+    public boolean isDispatching(UUID player, LivingEntity target) {
+        Order order = this.orders.get(player);
+        return order != null && order.target == target;
+    }
+
+    private void dispatch() {
+        if (this.orders.isEmpty()) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        int budget = this.world.getGameRules().getInt(SpyglassPlusGameRules.COMMAND_DISPATCH_BUDGET);
+        int waiting = this.orders.size();
+        int dispatched = 0;
+        int served = 0;
+
+        Order order;
+        while (dispatched < budget && (order = this.turns.pollFirst()) != null) {
+            served++;
+            if (order.target != null && !order.target.isAlive()) {
+                // the target died before every ally was ordered to attack it
+                cancel(order);
+                this.orders.values().remove(order);
+                continue;
+            }
+
+            // one living ally per turn
+            while (order.index < order.allies.length) {
+                MobEntity ally = order.allies[order.index];
+                order.allies[order.index++] = null;
+                totalDepth--;
+
+                if (ally.isAlive() && ally.world == this.world) {
+                    ally.setTarget(order.target);
+                    dispatched++;
+                    break;
+                }
+            }
+
+            if (order.remaining() == 0) {
+                this.orders.values().remove(order);
+            } else {
+                this.turns.addLast(order);
+            }
+        }
+
+        // every order gets a turn before any gets a second one, so only orders beyond the budget wait
+        SpyglassPlusMetrics.COMMAND_ORDERS_STARVED.add(Math.max(0, waiting - served));
+        SpyglassPlusMetrics.COMMAND_ORDERS_DISPATCHED.add(dispatched);
+        SpyglassPlusMetrics.COMMAND_DISPATCH_TICKS.increment();
+        SpyglassPlusMetrics.COMMAND_DISPATCH_NANOS.add(System.nanoTime() - start);
+    }
+
+    private static final class Order {
+        private final MobEntity[] allies;
+        @Nullable private final LivingEntity target;
+        private int index;
+
+        private Order(MobEntity[] allies, @Nullable LivingEntity target) {
+            this.allies = allies;
+            this.target = target;
+        }
+
+        private int remaining() {
+            return this.allies.length - this.index;
+        }
+    }
+}
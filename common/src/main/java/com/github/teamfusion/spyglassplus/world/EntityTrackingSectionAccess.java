@@ -0,0 +1,17 @@
+package com.github.teamfusion.spyglassplus.world;
+
+import com.github.teamfusion.spyglassplus.mixin.EntityTrackingSectionMixin;
+
+/**
+ * An interface implemented into all entity tracking sections, counting changes to their entities.
+ *
+ * @see EntityTrackingSectionMixin
+ */
+public interface EntityTrackingSectionAccess {
+    /**
+     * A revision taken from a global counter whenever an entity is added to or removed from this section.
+     * Movement within a section is not counted, as it would cost a hook on every entity move.
+     * <p>Revisions only increase, so the maximum revision of a set of sections changes whenever one of them does.</p>
+     */
+    long getRevision();
+}
@@ -0,0 +1,78 @@
+package com.github.teamfusion.spyglassplus.world;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.util.math.Vec2f;
+import net.minecraft.util.math.Vec3d;
+
+/**
+ * A scoper's last {@link SpyglassRaycasting#raycastAll(RaycastCache, Entity, Vec2f, float, double, java.util.function.Predicate[]) raycast},
+ * reused while all of these hold:
+ * <ul>
+ *     <li>the camera moved and rotated less than an epsilon,</li>
+ *     <li>the block hit distance is unchanged,</li>
+ *     <li>no entity was added to or removed from a section along the ray, see {@link EntityTrackingSectionAccess},</li>
+ *     <li>every hit entity still matches its predicate and intersects the ray,</li>
+ *     <li>the result is younger than {@value #MAX_AGE} ticks.</li>
+ * </ul>
+ * <p>Entities moving within their section are not tracked, so one moving into the ray in front of
+ * the cached hits is only picked up once the result expires.</p>
+ * <p>A cache must be used with the same predicates every time, or be {@link #invalidate() invalidated} when they change.</p>
+ */
+public class RaycastCache {
+    private static final double POSITION_EPSILON = 1.0E-3D;
+    private static final float ROTATION_EPSILON = 1.0E-2F;
+    private static final double DISTANCE_EPSILON = 1.0E-3D;
+    private static final int MAX_AGE = 5;
+
+    private boolean valid;
+    private Vec3d pos = Vec3d.ZERO;
+    private float yaw, pitch;
+    private double distance;
+    private long time;
+
+    /**
+     * The length of the ray whose entity sections were fingerprinted. Entities beyond every hit cannot change the result.
+     */
+    private double coveredDistance;
+    private long sectionRevision;
+    private Entity[] entities;
+
+    public void invalidate() {
+        this.valid = false;
+        this.entities = null;
+    }
+
+    boolean matches(Vec3d pos, Vec2f rotation, double distance, int count, long time) {
+        return this.valid
+            && this.entities.length == count
+            && time - this.time < MAX_AGE
+            && this.pos.squaredDistanceTo(pos) < POSITION_EPSILON * POSITION_EPSILON
+            && Math.abs(this.yaw - rotation.x) < ROTATION_EPSILON
+            && Math.abs(this.pitch - rotation.y) < ROTATION_EPSILON
+            && Math.abs(this.distance - distance) < DISTANCE_EPSILON;
+    }
+
+    void store(Vec3d pos, Vec2f rotation, double distance, long time, double coveredDistance, long sectionRevision, Entity[] entities) {
+        this.valid = true;
+        this.time = time;
+        this.pos = pos;
+        this.yaw = rotation.x;
+        this.pitch = rotation.y;
+        this.distance = distance;
+        this.coveredDistance = coveredDistance;
+        this.sectionRevision = sectionRevision;
+        this.entities = entities;
+    }
+
+    double getCoveredDistance() {
+        return this.coveredDistance;
+    }
+
+    long getSectionRevision() {
+        return this.sectionRevision;
+    }
+
+    Entity[] getEntities() {
+        return this.entities;
+    }
+}
@@ -0,0 +1,66 @@
+package com.github.teamfusion.spyglassplus.world;
+
+import com.github.teamfusion.spyglassplus.enchantment.SpyglassPlusEnchantments;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.util.math.Vec2f;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Predicate;
+
+import static com.github.teamfusion.spyglassplus.network.SpyglassPlusNetworking.isCommandAllyTo;
+
+/**
+ * The entities a scoping player is looking at, computed once per tick and shared by every consumer.
+ *
+ * @param target the entity looked at, for {@link SpyglassPlusEnchantments#INDICATE} and {@link SpyglassPlusEnchantments#DISCOVERY}
+ * @param commandTarget the mob that allies would target, for {@link SpyglassPlusEnchantments#COMMAND}
+ * @param predictedCommandTarget the mob the client predicts as the command target, from {@link #createClientCommandPredicate(PlayerEntity)}
+ * @see ScopingSession#getRaycastResult()
+ */
+public record ScopingRaycastResult(@Nullable Entity target, @Nullable Entity commandTarget, @Nullable Entity predictedCommandTarget) {
+    public static final ScopingRaycastResult EMPTY = new ScopingRaycastResult(null, null, null);
+
+    /**
+     * Raycasts only for the requested targets, in a single pass when both are requested.
+     *
+     * @param cache a cache only ever used with the same requested targets
+     */
+    public static ScopingRaycastResult raycast(PlayerEntity player, boolean target, boolean commandTarget, @Nullable RaycastCache cache) {
+        if (!target && !commandTarget) {
+            return EMPTY;
+        }
+
+        Vec2f rotation = SpyglassRaycasting.getRotation(player);
+        double distance = SpyglassRaycasting.MAX_RAYCAST_DISTANCE;
+        if (!commandTarget) {
+            return new ScopingRaycastResult(SpyglassRaycasting.raycastAll(cache, player, rotation, 1.0F, distance, entity -> true)[0], null, null);
+        }
+
+        // the client's prediction is found in the same pass, so the session knows when to correct it
+        Predicate<Entity> commandPredicate = createCommandPredicate(player);
+        Predicate<Entity> clientCommandPredicate = createClientCommandPredicate(player);
+        if (!target) {
+            Entity[] entities = SpyglassRaycasting.raycastAll(cache, player, rotation, 1.0F, distance, commandPredicate, clientCommandPredicate);
+            return new ScopingRaycastResult(null, entities[0], entities[1]);
+        }
+
+        Entity[] entities = SpyglassRaycasting.raycastAll(cache, player, rotation, 1.0F, distance, entity -> true, commandPredicate, clientCommandPredicate);
+        return new ScopingRaycastResult(entities[0], entities[1], entities[2]);
+    }
+
+    public static Predicate<Entity> createCommandPredicate(PlayerEntity player) {
+        return entity -> entity instanceof MobEntity mobEntity && !isCommandAllyTo(player, mobEntity);
+    }
+
+    /**
+     * Predicts {@link #createCommandPredicate(PlayerEntity)} on the client, where mobs are never serialized to find owners.
+     * Mobs whose owner is only known from their data stay targetable, and the server corrects the target if they are allies.
+     *
+     * @see CommandAllyIndex#isKnownAlly(MobEntity, java.util.UUID)
+     */
+    public static Predicate<Entity> createClientCommandPredicate(PlayerEntity player) {
+        return entity -> entity instanceof MobEntity mobEntity && mobEntity.isAlive() && !CommandAllyIndex.isKnownAlly(mobEntity, player.getUuid());
+    }
+}
@@ -0,0 +1,147 @@
+package com.github.teamfusion.spyglassplus.world;
+
+import com.github.teamfusion.spyglassplus.entity.DiscoverySubject;
+import com.github.teamfusion.spyglassplus.entity.ScopingPlayer;
+import com.github.teamfusion.spyglassplus.item.ScopingProfile;
+import com.github.teamfusion.spyglassplus.network.SpyglassPlusNetworking;
+import net.minecraft.entity.Entity;
+import net.minecraft.server.network.ServerPlayerEntity;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The server state of a scoping player, ticked by its {@link ScopingSessionManager}.
+ */
+public class ScopingSession {
+    private final ScopingSessionManager manager;
+    private final ServerPlayerEntity player;
+
+    /**
+     * The entity this player is indicating, or -1.
+     */
+    private int indicatedEntityId = -1;
+
+    private ScopingRaycastResult raycastResult = ScopingRaycastResult.EMPTY;
+    private final RaycastCache raycastCache = new RaycastCache();
+
+    /**
+     * Ticks between resends of a command target that the player is expected to have mispredicted.
+     */
+    private static final int COMMAND_TARGET_RESEND_INTERVAL = 20;
+
+    /**
+     * The command target last sent to the player, or -1. Clients predict their command target,
+     * so it is only sent when it changes or when the prediction is expected to differ.
+     */
+    private int sentCommandTargetId = -1;
+
+    /**
+     * The player's predicted command target as of the last tick, or -1.
+     */
+    private int predictedCommandTargetId = -1;
+    private int ticksSinceCommandUpdate;
+
+    /**
+     * Which targets were raycast for, as the cache only holds results for the same targets.
+     */
+    private boolean raycastTarget, raycastCommandTarget;
+
+    public ScopingSession(ScopingSessionManager manager, ServerPlayerEntity player) {
+        this.manager = manager;
+        this.player = player;
+    }
+
+    public ServerPlayerEntity getPlayer() {
+        return this.player;
+    }
+
+    public int getIndicatedEntityId() {
+        return this.indicatedEntityId;
+    }
+
+    /**
+     * The entities the player was looking at on the last tick.
+     */
+    public ScopingRaycastResult getRaycastResult() {
+        return this.raycastResult;
+    }
+
+    /**
+     * Updates entities the player is indicating, commanding and discovering.
+     */
+    public void tick() {
+        ScopingProfile profile = ScopingPlayer.cast(this.player).getScopingProfile();
+
+        // discovery only needs entity data from level 2, where effects are shown
+        boolean indicate = profile.getIndicateLevel() > 0;
+        boolean discovery = profile.getDiscoveryLevel() >= 2;
+        boolean command = profile.getCommandLevel() > 0;
+        boolean target = indicate || discovery;
+        if (target != this.raycastTarget || command != this.raycastCommandTarget) {
+            this.raycastTarget = target;
+            this.raycastCommandTarget = command;
+            this.raycastCache.invalidate();
+        }
+
+        ScopingRaycastResult result = this.raycastResult = ScopingRaycastResult.raycast(this.player, target, command, this.raycastCache);
+
+        if (indicate) {
+            this.setIndicatedEntity(result.target());
+        }
+
+        if (command) {
+            this.setCommandTarget(result.commandTarget(), result.predictedCommandTarget());
+        }
+
+        DiscoverySubject.subscribe(this.player, discovery ? result.target() : null);
+    }
+
+    /**
+     * Clears everything the player was indicating and discovering.
+     */
+    public void stop() {
+        this.setIndicatedEntity(null);
+        this.sentCommandTargetId = -1;
+        this.predictedCommandTargetId = -1;
+        this.raycastResult = ScopingRaycastResult.EMPTY;
+        this.raycastCache.invalidate();
+        DiscoverySubject.subscribe(this.player, null);
+    }
+
+    /**
+     * Sends the command target to the player if it changed, or if their prediction is expected to differ from it.
+     * A differing prediction is corrected as soon as it changes and again periodically, as the player's raycast may lag this one.
+     */
+    private void setCommandTarget(@Nullable Entity entity, @Nullable Entity predicted) {
+        int id = entity == null ? -1 : entity.getId();
+        int predictedId = predicted == null ? -1 : predicted.getId();
+        boolean mispredicted = predictedId != id
+            && (predictedId != this.predictedCommandTargetId || this.ticksSinceCommandUpdate >= COMMAND_TARGET_RESEND_INTERVAL);
+
+        this.predictedCommandTargetId = predictedId;
+        if (this.sentCommandTargetId != id || mispredicted) {
+            SpyglassPlusNetworking.sendCommandUpdate(entity, this.player);
+            this.sentCommandTargetId = id;
+            this.ticksSinceCommandUpdate = 0;
+        } else {
+            this.ticksSinceCommandUpdate++;
+        }
+    }
+
+    /**
+     * Moves this session's watch to a new indicated entity, if it changed.
+     */
+    private void setIndicatedEntity(@Nullable Entity entity) {
+        int id = entity == null ? -1 : entity.getId();
+        if (this.indicatedEntityId != id) {
+            if (this.indicatedEntityId != -1) {
+                this.manager.unwatchIndicated(this.indicatedEntityId);
+            }
+
+            if (entity != null) {
+                this.manager.watchIndicated(entity);
+            }
+
+            this.indicatedEntityId = id;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.github.teamfusion.spyglassplus.world;
+
+import com.github.teamfusion.spyglassplus.enchantment.SpyglassPlusEnchantments;
+import com.github.teamfusion.spyglassplus.entity.DiscoverySubject;
+import com.github.teamfusion.spyglassplus.entity.ScopingPlayer;
+import com.github.teamfusion.spyglassplus.mixin.ServerWorldMixin;
+import com.github.teamfusion.spyglassplus.network.SpyglassPlusNetworking;
+import com.github.teamfusion.spyglassplus.util.CommonPlayerLookup;
+import it.unimi.dsi.fastutil.ints.Int2IntMap;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Keeps track of the players scoping in a {@link ServerWorld}, so that only they are ticked
+ * rather than every entity in the world.
+ * <p>Sessions are started when a player starts using a spyglass or spyglass stand,
+ * and end on the first tick that the player is no longer scoping in this world.</p>
+ *
+ * @see ServerWorldMixin
+ */
+public class ScopingSessionManager {
+    /**
+     * The number of sessions across all worlds, to skip ticking entirely when nobody is scoping.
+     */
+    private static int totalSessions;
+
+    private final ServerWorld world;
+    private final Int2ObjectMap<ScopingSession> sessions = new Int2ObjectLinkedOpenHashMap<>();
+
+    /**
+     * The number of sessions indicating each entity, so that clients are only told when an entity starts or stops being indicated.
+     */
+    private final Int2IntMap indicateWatchers = new Int2IntOpenHashMap();
+
+    public ScopingSessionManager(ServerWorld world) {
+        this.world = world;
+    }
+
+    public static ScopingSessionManager get(ServerWorld world) {
+        return ((ServerWorldScopingAccess) world).getScopingSessionManager();
+    }
+
+    /**
+     * Starts a session for a player in their current world, if they are scoping.
+     */
+    public static void startScoping(ServerPlayerEntity player) {
+        if (ScopingPlayer.cast(player).isScoping()) {
+            get(player.getWorld()).start(player);
+        }
+    }
+
+    /**
+     * Forgets the session count once a server stops, as an integrated server's worlds are discarded with their sessions.
+     */
+    public static void reset(MinecraftServer server) {
+        totalSessions = 0;
+    }
+
+    /**
+     * Ticks the sessions of a world.
+     */
+    public static void tick(ServerWorld world) {
+        if (totalSessions > 0) {
+            get(world).tickSessions();
+        }
+    }
+
+    public void start(ServerPlayerEntity player) {
+        ScopingSession session = this.sessions.get(player.getId());
+        if (session != null) {
+            if (session.getPlayer() == player) {
+                return;
+            }
+
+            // respawned players keep their id
+            session.stop();
+            totalSessions--;
+        }
+
+        this.sessions.put(player.getId(), new ScopingSession(this, player));
+        totalSessions++;
+    }
+
+    /**
+     * Retrieves the session of a player in their current world.
+     */
+    @Nullable
+    public static ScopingSession getSession(ServerPlayerEntity player) {
+        ScopingSession session = get(player.getWorld()).getSession(player.getId());
+        return session != null && session.getPlayer() == player ? session : null;
+    }
+
+    @Nullable
+    public ScopingSession getSession(int playerId) {
+        return this.sessions.get(playerId);
+    }
+
+    /**
+     * @return whether any session is indicating an entity
+     */
+    public boolean isIndicated(int entityId) {
+        return this.indicateWatchers.containsKey(entityId);
+    }
+
+    /**
+     * Adds a session watching an entity for {@link SpyglassPlusEnchantments#INDICATE},
+     * telling its trackers if it was not indicated before.
+     */
+    void watchIndicated(Entity entity) {
+        if (this.indicateWatchers.addTo(entity.getId(), 1) == 0) {
+            sendIndicated(entity, true);
+        }
+    }
+
+    /**
+     * Removes a session watching an entity, telling its trackers if it is no longer indicated.
+     */
+    void unwatchIndicated(int entityId) {
+        int watchers = this.indicateWatchers.get(entityId);
+        if (watchers > 1) {
+            this.indicateWatchers.put(entityId, watchers - 1);
+        } else if (watchers == 1) {
+            this.indicateWatchers.remove(entityId);
+
+            // removed entities are forgotten by clients when unloaded
+            Entity entity = this.world.getEntityById(entityId);
+            if (entity != null) {
+                sendIndicated(entity, false);
+            }
+        }
+    }
+
+    private static void sendIndicated(Entity entity, boolean indicated) {
+        if (CommonPlayerLookup.anyTracking(entity)) {
+            SpyglassPlusNetworking.sendIndicateUpdate(entity, indicated);
+        }
+    }
+
+    private void tickSessions() {
+        if (this.sessions.isEmpty()) {
+            return;
+        }
+
+        for (ObjectIterator<ScopingSession> iterator = this.sessions.values().iterator(); iterator.hasNext(); ) {
+            ScopingSession session = iterator.next();
+            ServerPlayerEntity player = session.getPlayer();
+            if (player.isRemoved() || player.world != this.world || !ScopingPlayer.cast(player).isScoping()) {
+                session.stop();
+                iterator.remove();
+                totalSessions--;
+
+                // players that changed worlds carry on scoping there
+                if (!player.isRemoved() && player.world != this.world) {
+                    startScoping(player);
+                }
+
+                continue;
+            }
+
+            session.tick();
+
+            // effects of Discovery subjects are synced here rather than on every living entity's tick
+            LivingEntity subject = ScopingPlayer.cast(player).getDiscoverySubject();
+            if (subject != null) {
+                DiscoverySubject.cast(subject).tickDiscoverySubscribers();
+            }
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.github.teamfusion.spyglassplus.world;
+
+public interface ServerWorldCommandAccess {
+    CommandAllyIndex getCommandAllyIndex();
+
+    CommandDispatchQueue getCommandDispatchQueue();
+}
@@ -0,0 +1,5 @@
+package com.github.teamfusion.spyglassplus.world;
+
+public interface ServerWorldScopingAccess {
+    ScopingSessionManager getScopingSessionManager();
+}
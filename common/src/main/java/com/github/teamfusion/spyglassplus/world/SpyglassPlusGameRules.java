@@ -0,0 +1,31 @@
+package com.github.teamfusion.spyglassplus.world;
+
+import dev.architectury.registry.level.GameRuleFactory;
+import dev.architectury.registry.level.GameRuleRegistry;
+import net.minecraft.world.GameRules;
+
+public final class SpyglassPlusGameRules {
+    /**
+     * How many allies {@link CommandDispatchQueue} retargets per world per tick.
+     */
+    public static final GameRules.Key<GameRules.IntRule> COMMAND_DISPATCH_BUDGET = GameRuleRegistry.register(
+        "spyglassplusCommandDispatchBudget", GameRules.Category.MOBS, GameRuleFactory.createIntRule(8, 1)
+    );
+
+    /**
+     * How many local scrutiny updates each player may send per second.
+     */
+    public static final GameRules.Key<GameRules.IntRule> LOCAL_SCRUTINY_PACKET_RATE = GameRuleRegistry.register(
+        "spyglassplusLocalScrutinyPacketRate", GameRules.Category.PLAYER, GameRuleFactory.createIntRule(40, 1)
+    );
+
+    /**
+     * How many Command triggers each player may send per second.
+     */
+    public static final GameRules.Key<GameRules.IntRule> COMMAND_PACKET_RATE = GameRuleRegistry.register(
+        "spyglassplusCommandPacketRate", GameRules.Category.PLAYER, GameRuleFactory.createIntRule(10, 1)
+    );
+
+    private SpyglassPlusGameRules() {
+    }
+}
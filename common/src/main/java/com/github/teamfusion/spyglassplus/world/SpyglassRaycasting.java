@@ -2,17 +2,26 @@
 
 import com.github.teamfusion.spyglassplus.entity.SpyglassStandEntity;
 import com.github.teamfusion.spyglassplus.mixin.access.EntityInvoker;
+import com.github.teamfusion.spyglassplus.mixin.access.ServerEntityManagerAccessor;
+import com.github.teamfusion.spyglassplus.mixin.access.ServerWorldAccessor;
 import com.github.teamfusion.spyglassplus.tag.SpyglassPlusEntityTypeTags;
+import com.github.teamfusion.spyglassplus.util.SpyglassPlusMetrics;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.entity.projectile.ProjectileUtil;
+import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.hit.EntityHitResult;
 import net.minecraft.util.hit.HitResult;
 import net.minecraft.util.math.Box;
+import net.minecraft.util.math.ChunkSectionPos;
 import net.minecraft.util.math.Vec2f;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.RaycastContext;
+import net.minecraft.world.World;
+import net.minecraft.world.entity.EntityTrackingSection;
+import net.minecraft.world.entity.SectionedEntityCache;
 
+import java.util.Arrays;
 import java.util.Optional;
 import java.util.function.Predicate;
 import org.jetbrains.annotations.Nullable;
@@ -23,10 +32,37 @@
 public interface SpyglassRaycasting {
     double MAX_RAYCAST_DISTANCE = 64.0D;
 
+    /**
+     * The length of the ray segments queried for entities at once, the size of an entity section.
+     */
+    double SEGMENT_LENGTH = 16.0D;
+
     /**
      * Retrieves the entity that the camera is looking at.
      */
     static Entity raycast(Entity camera, Vec2f rotation, float tickDelta, double distance, Predicate<Entity> predicate) {
+        return raycastAll(camera, rotation, tickDelta, distance, predicate)[0];
+    }
+
+    /**
+     * Retrieves the entities that the camera is looking at for several predicates in one pass,
+     * sharing the block raycast and entity queries between them.
+     *
+     * @return the nearest entity matching each predicate, by index, or null
+     */
+    @SafeVarargs
+    static Entity[] raycastAll(Entity camera, Vec2f rotation, float tickDelta, double distance, Predicate<Entity>... predicates) {
+        return raycastAll(null, camera, rotation, tickDelta, distance, predicates);
+    }
+
+    /**
+     * Retrieves the entities that the camera is looking at, reusing the cached result while it is still valid.
+     * <p>Caching is only supported in server worlds, and the returned array must not be modified.</p>
+     *
+     * @see RaycastCache
+     */
+    @SafeVarargs
+    static Entity[] raycastAll(@Nullable RaycastCache cache, Entity camera, Vec2f rotation, float tickDelta, double distance, Predicate<Entity>... predicates) {
         // calculate a position vector from the camera's rotation
         Vec3d vector = ((EntityInvoker) camera).invokeGetRotationVector(rotation.y, rotation.x);
 
@@ -34,26 +70,230 @@ static Entity raycast(Entity camera, Vec2f rotation, float tickDelta, double dis
         Vec3d min = camera.getCameraPosVec(tickDelta);
         Vec3d max = min.add(vector.x * distance, vector.y * distance, vector.z * distance);
 
-        // grab default hit result
+        // grab default hit result, only entities in front of it can be hit
         HitResult hit = camera.world.raycast(new RaycastContext(min, max, RaycastContext.ShapeType.VISUAL, RaycastContext.FluidHandling.NONE, camera));
+        double squaredDistance = distance * distance;
         if (hit != null) {
-            distance = hit.getPos().squaredDistanceTo(min);
+            squaredDistance = hit.getPos().squaredDistanceTo(min);
+            distance = Math.sqrt(squaredDistance);
         }
 
-        // calculate entity hit result
-        Box net = camera.getBoundingBox().stretch(vector.multiply(distance)).expand(1.0F);
-        EntityHitResult entityHit = raycast(camera, min, max, net, entity -> isVisibleToRaycast(entity, camera instanceof PlayerEntity player ? player : null) && predicate.test(entity), distance);
+        PlayerEntity viewer = camera instanceof PlayerEntity player ? player : null;
+        Predicate<Entity> filter = entity -> isVisibleToRaycast(entity, viewer);
 
-        if (entityHit != null) {
-            Entity entity = entityHit.getEntity();
-            Vec3d pos = entityHit.getPos();
-            double entityDistance = min.squaredDistanceTo(pos);
-            if (entityDistance < distance || hit == null) {
-                return entity;
+        // reuse cached entity hits if nothing around the ray changed
+        SectionedEntityCache<?> sections = cache == null ? null : getEntitySections(camera.world);
+        if (sections != null) {
+            if (cache.matches(min, rotation, distance, predicates.length, camera.world.getTime())
+                && cache.getSectionRevision() == getSectionRevision(sections, min, vector, cache.getCoveredDistance())
+                && areHitsValid(cache.getEntities(), min, max, squaredDistance, filter, predicates)) {
+                SpyglassPlusMetrics.RAYCAST_CACHE_HITS.increment();
+                return cache.getEntities();
             }
+
+            SpyglassPlusMetrics.RAYCAST_CACHE_MISSES.increment();
+        }
+
+        // calculate entity hit results
+        EntityHitResult[] entityHits = raycastSegments(camera, min, max, vector, distance, squaredDistance, filter, predicates);
+
+        Entity[] entities = new Entity[predicates.length];
+        double furthestHit = 0.0D;
+        for (int i = 0; i < entities.length; i++) {
+            EntityHitResult entityHit = entityHits[i];
+            if (entityHit != null) {
+                double entityDistance = min.squaredDistanceTo(entityHit.getPos());
+                if (entityDistance < squaredDistance || hit == null) {
+                    entities[i] = entityHit.getEntity();
+                    furthestHit = Math.max(furthestHit, entityDistance);
+                    continue;
+                }
+            }
+
+            furthestHit = squaredDistance;
+        }
+
+        if (sections != null) {
+            double coveredDistance = Math.min(distance, Math.sqrt(furthestHit));
+            cache.store(min, rotation, distance, camera.world.getTime(), coveredDistance, getSectionRevision(sections, min, vector, coveredDistance), entities);
         }
 
-        return null;
+        return entities;
+    }
+
+    /**
+     * Whether every cached hit still matches its predicate and intersects the ray before the block hit.
+     */
+    private static boolean areHitsValid(Entity[] entities, Vec3d min, Vec3d max, double squaredDistance, Predicate<Entity> filter, Predicate<Entity>[] predicates) {
+        for (int i = 0; i < entities.length; i++) {
+            Entity entity = entities[i];
+            if (entity == null) {
+                continue;
+            }
+
+            if (entity.isRemoved() || !filter.test(entity) || !predicates[i].test(entity)) {
+                return false;
+            }
+
+            Box box = getTargetingBox(entity);
+            if (!box.contains(min)) {
+                Optional<Vec3d> optional = box.raycast(min, max);
+                if (optional.isEmpty() || !(min.squaredDistanceTo(optional.get()) < squaredDistance)) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    @Nullable
+    private static SectionedEntityCache<?> getEntitySections(World world) {
+        return world instanceof ServerWorld serverWorld
+            ? ((ServerEntityManagerAccessor) ((ServerWorldAccessor) serverWorld).getEntityManager()).getCache()
+            : null;
+    }
+
+    /**
+     * The highest {@link EntityTrackingSectionAccess#getRevision() revision} of the entity sections that
+     * {@link #raycastSegments} would query along the ray.
+     */
+    private static long getSectionRevision(SectionedEntityCache<?> sections, Vec3d min, Vec3d direction, double distance) {
+        long revision = 0L;
+        for (double start = 0.0D; start < distance; start += SEGMENT_LENGTH) {
+            double end = Math.min(start + SEGMENT_LENGTH, distance);
+            Box segment = new Box(min.add(direction.multiply(start)), min.add(direction.multiply(end))).expand(1.0F);
+
+            // entity queries also look 2 blocks outside the box, as entities can stick out of their section
+            int minX = ChunkSectionPos.getSectionCoord(segment.minX - 2.0D);
+            int minY = ChunkSectionPos.getSectionCoord(segment.minY - 2.0D);
+            int minZ = ChunkSectionPos.getSectionCoord(segment.minZ - 2.0D);
+            int maxX = ChunkSectionPos.getSectionCoord(segment.maxX + 2.0D);
+            int maxY = ChunkSectionPos.getSectionCoord(segment.maxY + 2.0D);
+            int maxZ = ChunkSectionPos.getSectionCoord(segment.maxZ + 2.0D);
+            for (int x = minX; x <= maxX; x++) {
+                for (int y = minY; y <= maxY; y++) {
+                    for (int z = minZ; z <= maxZ; z++) {
+                        EntityTrackingSection<?> section = sections.findTrackingSection(ChunkSectionPos.asLong(x, y, z));
+                        if (section != null) {
+                            revision = Math.max(revision, ((EntityTrackingSectionAccess) section).getRevision());
+                        }
+                    }
+                }
+            }
+        }
+
+        return revision;
+    }
+
+    /**
+     * Queries entities along the ray one {@link #SEGMENT_LENGTH segment} at a time, front to back,
+     * stopping once the closest hit for every predicate lies before the next segment.
+     * <p>Each candidate is tested against the ray once and shared by all predicates, following the
+     * rules of {@link #raycast(Entity, Vec3d, Vec3d, Box, Predicate, double)}. Candidates already
+     * tested in the previous segment are skipped.</p>
+     *
+     * @param direction the normalized direction of the ray
+     * @param distance the length of the ray to query, up to the block hit
+     * @param squaredDistance the squared length, the maximum squared distance of a hit
+     * @param filter a predicate every candidate must match
+     */
+    static EntityHitResult[] raycastSegments(Entity entity, Vec3d min, Vec3d max, Vec3d direction, double distance, double squaredDistance, Predicate<Entity> filter, Predicate<Entity>[] predicates) {
+        int count = predicates.length;
+        Entity[] resultEntities = new Entity[count];
+        Vec3d[] resultPositions = new Vec3d[count];
+        double[] runningDistances = new double[count];
+        Arrays.fill(runningDistances, squaredDistance);
+
+        Entity rootVehicle = entity.getRootVehicle();
+        Box previous = null;
+
+        for (double start = 0.0D; start < distance; start += SEGMENT_LENGTH) {
+            // any entity hit before this segment intersects a previous segment
+            if (isSettled(resultEntities, runningDistances, start * start)) {
+                break;
+            }
+
+            double end = Math.min(start + SEGMENT_LENGTH, distance);
+            Box segment = new Box(min.add(direction.multiply(start)), min.add(direction.multiply(end))).expand(1.0F);
+
+            for (Entity candidate : entity.world.getOtherEntities(entity, segment, filter)) {
+                if (previous != null && candidate.getBoundingBox().intersects(previous)) {
+                    continue;
+                }
+
+                Box candidateBoundingBox = getTargetingBox(candidate);
+                Optional<Vec3d> optional = candidateBoundingBox.raycast(min, max);
+                boolean contained = candidateBoundingBox.contains(min);
+                if (!contained && optional.isEmpty()) {
+                    continue;
+                }
+
+                double candidateDistance = optional.isPresent() ? min.squaredDistanceTo(optional.get()) : 0.0D;
+                boolean sameVehicle = candidate.getRootVehicle() == rootVehicle;
+
+                for (int i = 0; i < count; i++) {
+                    if (!predicates[i].test(candidate)) {
+                        continue;
+                    }
+
+                    double runningDistance = runningDistances[i];
+                    if (contained) {
+                        if (!(runningDistance >= 0.0)) continue;
+                        resultEntities[i] = candidate;
+                        resultPositions[i] = optional.orElse(min);
+                        runningDistances[i] = 0.0;
+                        continue;
+                    }
+
+                    if (!(candidateDistance < runningDistance) && runningDistance != 0.0) {
+                        continue;
+                    }
+                    if (sameVehicle) {
+                        if (runningDistance != 0.0) continue;
+                        resultEntities[i] = candidate;
+                        resultPositions[i] = optional.get();
+                        continue;
+                    }
+
+                    resultEntities[i] = candidate;
+                    resultPositions[i] = optional.get();
+                    runningDistances[i] = candidateDistance;
+                }
+            }
+
+            previous = segment;
+        }
+
+        EntityHitResult[] results = new EntityHitResult[count];
+        for (int i = 0; i < count; i++) {
+            if (resultEntities[i] != null) {
+                results[i] = new EntityHitResult(resultEntities[i], resultPositions[i]);
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * The bounding box of an entity that a raycast must intersect to hit it.
+     */
+    static Box getTargetingBox(Entity entity) {
+        float margin = entity.getTargetingMargin();
+        return entity.getBoundingBox().expand(
+            margin == 0.0F && !entity.getType().isIn(SpyglassPlusEntityTypeTags.IGNORE_MARGIN_EXPANSION_DISCOVERY)
+                ? 0.175F : margin
+        );
+    }
+
+    private static boolean isSettled(Entity[] resultEntities, double[] runningDistances, double squaredStart) {
+        for (int i = 0; i < resultEntities.length; i++) {
+            if (resultEntities[i] == null || runningDistances[i] > squaredStart) {
+                return false;
+            }
+        }
+
+        return true;
     }
 
     static Entity raycast(Entity camera, Vec2f rotation, float tickDelta) {
@@ -82,12 +322,7 @@ static EntityHitResult raycast(Entity entity, Vec3d min, Vec3d max, Box box, Pre
         Vec3d resultPos = null;
 
         for (Entity candidate : entity.world.getOtherEntities(entity, box, predicate)) {
-            float margin = candidate.getTargetingMargin();
-            Box candidateBoundingBox = candidate.getBoundingBox().expand(
-                margin == 0.0F && !candidate.getType().isIn(SpyglassPlusEntityTypeTags.IGNORE_MARGIN_EXPANSION_DISCOVERY)
-                    ? 0.175F : margin
-            );
-
+            Box candidateBoundingBox = getTargetingBox(candidate);
             Optional<Vec3d> optional = candidateBoundingBox.raycast(min, max);
             if (candidateBoundingBox.contains(min)) {
                 if (!(runningDistance >= 0.0)) continue;
@@ -1,11 +1,14 @@
 package com.github.teamfusion.spyglassplus.test;
 
 import com.github.teamfusion.spyglassplus.SpyglassPlus;
+import com.github.teamfusion.spyglassplus.test.benchmark.SpyglassPlusBenchmarkCommand;
+import dev.architectury.event.events.common.CommandRegistrationEvent;
 import net.fabricmc.api.ModInitializer;
 
 public class SpyglassPlusTest implements ModInitializer, SpyglassPlus {
     @Override
     public void onInitialize() {
         LOGGER.info("Initializing {}-TEST", MOD_NAME);
+        CommandRegistrationEvent.EVENT.register((dispatcher, registry, environment) -> SpyglassPlusBenchmarkCommand.register(dispatcher));
     }
 }
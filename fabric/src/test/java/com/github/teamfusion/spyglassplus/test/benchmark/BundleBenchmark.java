@@ -0,0 +1,111 @@
+package com.github.teamfusion.spyglassplus.test.benchmark;
+
+import com.github.teamfusion.spyglassplus.SpyglassPlus;
+import com.github.teamfusion.spyglassplus.network.SpyglassPlusNetworking;
+import com.github.teamfusion.spyglassplus.network.packet.CommandTargetedPacket;
+import com.github.teamfusion.spyglassplus.network.packet.CommandUpdatePacket;
+import com.github.teamfusion.spyglassplus.network.packet.EffectsUpdatePacket;
+import com.github.teamfusion.spyglassplus.network.packet.IndicateUpdatePacket;
+import com.github.teamfusion.spyglassplus.network.packet.SpyglassPlusPacket;
+import net.minecraft.entity.effect.StatusEffectInstance;
+import net.minecraft.entity.effect.StatusEffects;
+import net.minecraft.network.PacketByteBuf;
+import net.minecraft.text.Text;
+import net.minecraft.util.Identifier;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Compares the packets and bytes sent to one scoping player over a scripted scenario, with every message in its
+ * own custom payload as before, and with each tick's messages in one {@link SpyglassPlusNetworking#BUNDLE_PACKET_ID} payload.
+ * <p>Sizes include the custom payload framing: the frame length, packet id and channel identifier, without compression.</p>
+ */
+public final class BundleBenchmark {
+    private static final int TICKS = 200;
+
+    /**
+     * The channel identifiers each message had its own payload on before bundling.
+     */
+    private static final Identifier
+        EFFECTS_UPDATE_PACKET_ID = new Identifier(SpyglassPlus.MOD_ID, "update_active_effects"),
+        INDICATE_UPDATE_PACKET_ID = new Identifier(SpyglassPlus.MOD_ID, "indicate_update"),
+        COMMAND_UPDATE_PACKET_ID = new Identifier(SpyglassPlus.MOD_ID, "command_update"),
+        COMMAND_TARGETED_PACKET_ID = new Identifier(SpyglassPlus.MOD_ID, "command_targeted");
+
+    /**
+     * The id of the vanilla custom payload packet, one VarInt byte.
+     */
+    private static final int CUSTOM_PAYLOAD_ID_SIZE = 1;
+
+    private BundleBenchmark() {
+    }
+
+    public static void run(Consumer<Text> feedback) {
+        List<StatusEffectInstance> effects = List.of(
+            new StatusEffectInstance(StatusEffects.SPEED, 3600, 1),
+            new StatusEffectInstance(StatusEffects.REGENERATION, 200, 2)
+        );
+
+        long unbundledPackets = 0L, unbundledBytes = 0L;
+        long bundledPackets = 0L, bundledBytes = 0L;
+
+        for (int tick = 0; tick < TICKS; tick++) {
+            int bundle = 0;
+
+            // a scoper sweeping across a crowd, indicating a few entities and un-indicating others every tick
+            for (int i = 0; i < 8; i++) {
+                int size = size(new IndicateUpdatePacket(1000 + tick * 8 + i, i % 2 == 0));
+                unbundledPackets++;
+                unbundledBytes += framed(INDICATE_UPDATE_PACKET_ID, size);
+                bundle += 1 + size;
+            }
+
+            // the command target changes every few ticks
+            if (tick % 4 == 0) {
+                int size = size(new CommandUpdatePacket(2000 + tick));
+                unbundledPackets++;
+                unbundledBytes += framed(COMMAND_UPDATE_PACKET_ID, size);
+                bundle += 1 + size;
+            }
+
+            // allies are commanded once a second
+            if (tick % 20 == 0) {
+                int size = size(new CommandTargetedPacket(2000 + tick));
+                unbundledPackets++;
+                unbundledBytes += framed(COMMAND_TARGETED_PACKET_ID, size);
+                bundle += 1 + size;
+            }
+
+            // the Discovery subject's effects are resent on change and once a second
+            if (tick % 10 == 0) {
+                int size = size(EffectsUpdatePacket.create(3000, effects));
+                unbundledPackets++;
+                unbundledBytes += framed(EFFECTS_UPDATE_PACKET_ID, size);
+                bundle += 1 + size;
+            }
+
+            if (bundle > 0) {
+                bundledPackets++;
+                bundledBytes += framed(SpyglassPlusNetworking.BUNDLE_PACKET_ID, bundle);
+            }
+        }
+
+        feedback.accept(Text.literal("bundle, %d ticks of one scoper:".formatted(TICKS)));
+        feedback.accept(Text.literal(" unbundled: %d packets, %d B".formatted(unbundledPackets, unbundledBytes)));
+        feedback.accept(Text.literal(" bundled: %d packets, %d B".formatted(bundledPackets, bundledBytes)));
+    }
+
+    private static int size(SpyglassPlusPacket packet) {
+        return packet.toBuf().readableBytes();
+    }
+
+    /**
+     * @return the size of a custom payload packet on the wire, including its frame length
+     */
+    private static int framed(Identifier channel, int payloadSize) {
+        int channelSize = channel.toString().length();
+        int packetSize = CUSTOM_PAYLOAD_ID_SIZE + PacketByteBuf.getVarIntLength(channelSize) + channelSize + payloadSize;
+        return PacketByteBuf.getVarIntLength(packetSize) + packetSize;
+    }
+}
@@ -0,0 +1,75 @@
+package com.github.teamfusion.spyglassplus.test.benchmark;
+
+import com.github.teamfusion.spyglassplus.network.packet.EffectsUpdatePacket;
+import io.netty.buffer.Unpooled;
+import net.minecraft.entity.effect.StatusEffectInstance;
+import net.minecraft.entity.effect.StatusEffects;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtElement;
+import net.minecraft.nbt.NbtList;
+import net.minecraft.network.PacketByteBuf;
+import net.minecraft.text.Text;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Compares the size and decode time of the NBT effects encoding that {@link EffectsUpdatePacket} replaced
+ * with the binary encoding, for a typical set of active effects.
+ */
+public final class EffectsEncodingBenchmark {
+    private static final int ITERATIONS = 100_000;
+    private static final int ENTITY_ID = 12345;
+
+    private EffectsEncodingBenchmark() {
+    }
+
+    public static void run(Consumer<Text> feedback) {
+        List<StatusEffectInstance> effects = List.of(
+            new StatusEffectInstance(StatusEffects.SPEED, 3600, 1),
+            new StatusEffectInstance(StatusEffects.STRENGTH, 1200, 0),
+            new StatusEffectInstance(StatusEffects.REGENERATION, 200, 2, true, true, true),
+            new StatusEffectInstance(StatusEffects.FIRE_RESISTANCE, 9600, 0),
+            new StatusEffectInstance(StatusEffects.INVISIBILITY, 600, 0, false, false, false)
+        );
+
+        PacketByteBuf nbt = writeNbt(effects);
+        PacketByteBuf binary = EffectsUpdatePacket.create(ENTITY_ID, effects).toBuf();
+
+        double nbtEncode = MicroBenchmark.measure(ITERATIONS, () -> writeNbt(effects).readableBytes());
+        double binaryEncode = MicroBenchmark.measure(ITERATIONS, () -> EffectsUpdatePacket.create(ENTITY_ID, effects).toBuf().readableBytes());
+        double nbtDecode = MicroBenchmark.measure(ITERATIONS, () -> readNbt(new PacketByteBuf(nbt.copy())).size());
+        double binaryDecode = MicroBenchmark.measure(ITERATIONS, () -> EffectsUpdatePacket.read(new PacketByteBuf(binary.copy())).effects().size());
+
+        feedback.accept(Text.literal("effects, %d active:".formatted(effects.size())));
+        feedback.accept(Text.literal(" nbt: %d B, %.0f ns encode, %.0f ns decode".formatted(nbt.readableBytes(), nbtEncode, nbtDecode)));
+        feedback.accept(Text.literal(" binary: %d B, %.0f ns encode, %.0f ns decode".formatted(binary.readableBytes(), binaryEncode, binaryDecode)));
+    }
+
+    /**
+     * The previous encoding: an int entity id, then every effect's NBT in one compound.
+     */
+    private static PacketByteBuf writeNbt(List<StatusEffectInstance> effects) {
+        NbtList list = new NbtList();
+        effects.forEach(effect -> list.add(effect.writeNbt(new NbtCompound())));
+        NbtCompound nbt = new NbtCompound();
+        nbt.put("Effects", list);
+
+        PacketByteBuf buf = new PacketByteBuf(Unpooled.buffer());
+        buf.writeInt(ENTITY_ID);
+        buf.writeNbt(nbt);
+        return buf;
+    }
+
+    private static List<StatusEffectInstance> readNbt(PacketByteBuf buf) {
+        buf.readInt();
+        NbtList list = buf.readNbt().getList("Effects", NbtElement.COMPOUND_TYPE);
+        List<StatusEffectInstance> effects = new ArrayList<>(list.size());
+        for (int i = 0; i < list.size(); i++) {
+            effects.add(StatusEffectInstance.fromNbt(list.getCompound(i)));
+        }
+
+        return effects;
+    }
+}
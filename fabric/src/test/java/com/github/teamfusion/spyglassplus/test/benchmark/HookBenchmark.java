@@ -0,0 +1,38 @@
+package com.github.teamfusion.spyglassplus.test.benchmark;
+
+import com.github.teamfusion.spyglassplus.entity.ScopingPlayer;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.text.Text;
+
+import java.util.function.Consumer;
+
+/**
+ * Times the vanilla methods that Spyglass+ hooks into and that run for every player or item.
+ * <p>Only vanilla methods are called, so the same benchmark can be run on an older revision to compare hooks.
+ * Run it once as is, and once while using a spyglass stand, which keeps the player scoping while the command is sent.</p>
+ */
+public final class HookBenchmark {
+    private static final int ITERATIONS = 1_000_000;
+
+    private HookBenchmark() {
+    }
+
+    public static void run(ServerPlayerEntity player, Consumer<Text> feedback) {
+        ItemStack stick = new ItemStack(Items.STICK);
+        ItemStack spyglass = new ItemStack(Items.SPYGLASS);
+
+        long scopers = player.getServer().getPlayerManager().getPlayerList().stream().filter(p -> ScopingPlayer.cast(p).isScoping()).count();
+        double usingSpyglass = MicroBenchmark.measure(ITERATIONS, () -> player.isUsingSpyglass() ? 1L : 0L);
+        double stickEnchantable = MicroBenchmark.measure(ITERATIONS, () -> stick.isEnchantable() ? 1L : 0L);
+        double stickEnchantability = MicroBenchmark.measure(ITERATIONS, () -> Items.STICK.getEnchantability());
+        double spyglassEnchantable = MicroBenchmark.measure(ITERATIONS, () -> spyglass.isEnchantable() ? 1L : 0L);
+
+        feedback.accept(Text.literal("hooks, %d scoping players, running player %s:".formatted(scopers, ScopingPlayer.cast(player).isScoping() ? "scoping" : "not scoping")));
+        feedback.accept(Text.literal(" PlayerEntity.isUsingSpyglass: %.1f ns".formatted(usingSpyglass)));
+        feedback.accept(Text.literal(" ItemStack.isEnchantable, stick: %.1f ns".formatted(stickEnchantable)));
+        feedback.accept(Text.literal(" Item.getEnchantability, stick: %.1f ns".formatted(stickEnchantability)));
+        feedback.accept(Text.literal(" ItemStack.isEnchantable, spyglass: %.1f ns".formatted(spyglassEnchantable)));
+    }
+}
@@ -0,0 +1,41 @@
+package com.github.teamfusion.spyglassplus.test.benchmark;
+
+import java.util.function.LongSupplier;
+
+/**
+ * A minimal in-game timing harness, run on the server thread by {@link SpyglassPlusBenchmarkCommand}.
+ * <p>Each body is warmed up before it is timed, and returns a value folded into a sink so that it is not optimized away.
+ * Results are only comparable between runs on the same machine and world.</p>
+ */
+public final class MicroBenchmark {
+    private static long sink;
+
+    private MicroBenchmark() {
+    }
+
+    /**
+     * @return the mean nanoseconds per call of a body
+     */
+    public static double measure(int iterations, LongSupplier body) {
+        long result = 0L;
+        for (int i = 0; i < iterations; i++) {
+            result += body.getAsLong();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            result += body.getAsLong();
+        }
+
+        long elapsed = System.nanoTime() - start;
+        sink += result;
+        return (double) elapsed / iterations;
+    }
+
+    /**
+     * Prevents the sink from being eliminated.
+     */
+    public static long getSink() {
+        return sink;
+    }
+}
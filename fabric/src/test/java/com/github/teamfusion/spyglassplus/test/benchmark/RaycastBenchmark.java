@@ -0,0 +1,87 @@
+package com.github.teamfusion.spyglassplus.test.benchmark;
+
+import com.github.teamfusion.spyglassplus.mixin.access.EntityInvoker;
+import com.github.teamfusion.spyglassplus.world.SpyglassRaycasting;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.text.Text;
+import net.minecraft.util.hit.EntityHitResult;
+import net.minecraft.util.hit.HitResult;
+import net.minecraft.util.math.Box;
+import net.minecraft.util.math.Vec2f;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.RaycastContext;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Compares the previous raycast broad phase, a query box stretched by the squared block hit distance,
+ * with the segmented query of {@link SpyglassRaycasting}, from the running player's view.
+ * <p>Run it while looking across a dense mob farm.</p>
+ */
+public final class RaycastBenchmark {
+    private static final int ITERATIONS = 2_000;
+
+    private RaycastBenchmark() {
+    }
+
+    public static void run(PlayerEntity player, Consumer<Text> feedback) {
+        Vec2f rotation = SpyglassRaycasting.getRotation(player);
+        double distance = SpyglassRaycasting.MAX_RAYCAST_DISTANCE;
+        Predicate<Entity> filter = entity -> SpyglassRaycasting.isVisibleToRaycast(entity, player);
+
+        Box stretched = getStretchedBox(player, rotation, distance);
+        int candidates = player.world.getOtherEntities(player, stretched, filter).size();
+
+        Entity previous = raycastStretched(player, rotation, distance, filter);
+        Entity segmented = SpyglassRaycasting.raycastAll(player, rotation, 1.0F, distance, entity -> true)[0];
+
+        double previousTime = MicroBenchmark.measure(ITERATIONS, () -> Objects.hashCode(raycastStretched(player, rotation, distance, filter)));
+        double segmentedTime = MicroBenchmark.measure(ITERATIONS, () -> Objects.hashCode(SpyglassRaycasting.raycastAll(player, rotation, 1.0F, distance, entity -> true)[0]));
+
+        feedback.accept(Text.literal("raycast, %d entities in the stretched box:".formatted(candidates)));
+        feedback.accept(Text.literal(" stretched: %.0f ns".formatted(previousTime)));
+        feedback.accept(Text.literal(" segmented: %.0f ns".formatted(segmentedTime)));
+        feedback.accept(Text.literal(" same hit: %s".formatted(previous == segmented)));
+    }
+
+    /**
+     * The previous query box, stretched by the squared block hit distance.
+     */
+    private static Box getStretchedBox(Entity camera, Vec2f rotation, double distance) {
+        Vec3d vector = ((EntityInvoker) camera).invokeGetRotationVector(rotation.y, rotation.x);
+        Vec3d min = camera.getCameraPosVec(1.0F);
+        Vec3d max = min.add(vector.multiply(distance));
+        HitResult hit = camera.world.raycast(new RaycastContext(min, max, RaycastContext.ShapeType.VISUAL, RaycastContext.FluidHandling.NONE, camera));
+        double squaredDistance = hit == null ? distance : hit.getPos().squaredDistanceTo(min);
+        return camera.getBoundingBox().stretch(vector.multiply(squaredDistance)).expand(1.0F);
+    }
+
+    /**
+     * The previous raycast, querying the stretched box in one go.
+     */
+    private static Entity raycastStretched(Entity camera, Vec2f rotation, double distance, Predicate<Entity> filter) {
+        Vec3d vector = ((EntityInvoker) camera).invokeGetRotationVector(rotation.y, rotation.x);
+        Vec3d min = camera.getCameraPosVec(1.0F);
+        Vec3d max = min.add(vector.multiply(distance));
+        HitResult hit = camera.world.raycast(new RaycastContext(min, max, RaycastContext.ShapeType.VISUAL, RaycastContext.FluidHandling.NONE, camera));
+
+        double squaredDistance = distance;
+        if (hit != null) {
+            squaredDistance = hit.getPos().squaredDistanceTo(min);
+        }
+
+        Box box = camera.getBoundingBox().stretch(vector.multiply(squaredDistance)).expand(1.0F);
+        EntityHitResult entityHit = SpyglassRaycasting.raycast(camera, min, max, box, filter, squaredDistance);
+        if (entityHit != null) {
+            double entityDistance = min.squaredDistanceTo(entityHit.getPos());
+            if (entityDistance < squaredDistance || hit == null) {
+                return entityHit.getEntity();
+            }
+        }
+
+        return null;
+    }
+}
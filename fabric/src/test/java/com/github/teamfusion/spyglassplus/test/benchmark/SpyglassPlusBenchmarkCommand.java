@@ -0,0 +1,43 @@
+package com.github.teamfusion.spyglassplus.test.benchmark;
+
+import com.github.teamfusion.spyglassplus.SpyglassPlus;
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.server.command.CommandManager;
+import net.minecraft.server.command.ServerCommandSource;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.text.Text;
+import net.minecraft.util.Formatting;
+
+import java.util.function.Consumer;
+
+/**
+ * The {@code /spyglassplus-test benchmark} command, running the in-game microbenchmarks of the test mod.
+ * <p>Run with {@code testClient} or {@code testServer}. Results are printed to the command source.</p>
+ */
+public interface SpyglassPlusBenchmarkCommand {
+    static void register(CommandDispatcher<ServerCommandSource> dispatcher) {
+        dispatcher.register(
+            CommandManager.literal(SpyglassPlus.MOD_ID + "-test")
+                          .requires(source -> source.hasPermissionLevel(2))
+                          .then(CommandManager.literal("benchmark")
+                                              .then(CommandManager.literal("effects").executes(context -> run(context, EffectsEncodingBenchmark::run)))
+                                              .then(CommandManager.literal("bundle").executes(context -> run(context, BundleBenchmark::run)))
+                                              .then(CommandManager.literal("hooks").executes(context -> {
+                                                  ServerPlayerEntity player = context.getSource().getPlayerOrThrow();
+                                                  return run(context, feedback -> HookBenchmark.run(player, feedback));
+                                              }))
+                                              .then(CommandManager.literal("raycast").executes(context -> {
+                                                  ServerPlayerEntity player = context.getSource().getPlayerOrThrow();
+                                                  return run(context, feedback -> RaycastBenchmark.run(player, feedback));
+                                              })))
+        );
+    }
+
+    private static int run(CommandContext<ServerCommandSource> context, Consumer<Consumer<Text>> benchmark) {
+        ServerCommandSource source = context.getSource();
+        source.sendFeedback(Text.literal(SpyglassPlus.MOD_NAME + " benchmark:").formatted(Formatting.GOLD), false);
+        benchmark.accept(text -> source.sendFeedback(text, false));
+        return 1;
+    }
+}